@@ -0,0 +1,94 @@
+package ru.nsu.gaev;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сравнение обычной раскладки кучи ({@link IntHeap}, {@link Sample#heapSort(int[])})
+ * с блочной ({@link BlockedIntHeap}, {@link BlockedHeapSort}) на больших размерах.
+ *
+ * <p>Сценарий очереди: куча из {@code size} элементов, каждая операция заменяет вершину
+ * случайным значением, то есть выполняет одно полное просеивание на всю глубину.
+ * Сценарий сортировки: полная сортировка копии случайного массива.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class HeapLayoutBenchmark {
+    private static final int RANDOM_MASK = (1 << 16) - 1;
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"10"})
+    public int pageHeight;
+
+    private final Sample sample = new Sample();
+    private BlockedHeapSort blockedHeapSort;
+    private IntHeap plainHeap;
+    private BlockedIntHeap blockedHeap;
+    private int[] source;
+    private int[] work;
+    private int[] randoms;
+    private int next;
+
+    /**
+     * Заполняет обе кучи и готовит случайные значения для замены вершины.
+     */
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        source = random.ints(size).toArray();
+        work = new int[size];
+        randoms = random.ints(RANDOM_MASK + 1).toArray();
+        plainHeap = IntHeap.heapify(source, IntHeap.Order.MIN);
+        blockedHeap = BlockedIntHeap.heapify(source, 0, size, IntHeap.Order.MIN, pageHeight);
+        blockedHeapSort = new BlockedHeapSort(pageHeight);
+    }
+
+    private int nextRandom() {
+        return randoms[next++ & RANDOM_MASK];
+    }
+
+    @Benchmark
+    public int plainReplaceTop() {
+        return plainHeap.replaceTop(nextRandom());
+    }
+
+    @Benchmark
+    public int blockedReplaceTop() {
+        return blockedHeap.replaceTop(nextRandom());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5, batchSize = 1)
+    public int[] plainHeapSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        return sample.heapSort(work);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5, batchSize = 1)
+    public int[] blockedHeapSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        return blockedHeapSort.sort(work);
+    }
+}
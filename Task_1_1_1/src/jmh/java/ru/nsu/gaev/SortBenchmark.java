@@ -0,0 +1,148 @@
+package ru.nsu.gaev;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк режимов сортировки модуля в сравнении с {@link Arrays#sort(int[])}
+ * и {@link Arrays#parallelSort(int[])}.
+ *
+ * <p>Каждый вызов копирует исходные данные в заранее выделенный рабочий массив,
+ * поэтому стоимость копирования одинакова для всех режимов (её показывает
+ * {@link #copyOnly()}), а профилировщик gc видит только выделения самой сортировки.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class SortBenchmark {
+
+    /**
+     * Распределение исходных данных.
+     */
+    public enum Distribution {
+        RANDOM, SORTED, REVERSED, FEW_UNIQUE, ORGAN_PIPE
+    }
+
+    @Param({"100", "10000", "1000000", "100000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private final Sample sample = new Sample();
+    private final DaryHeapSort daryHeapSort = new DaryHeapSort(4);
+    private final IntroSort introSort = new IntroSort();
+    private final ParallelHeapSort parallelHeapSort = new ParallelHeapSort();
+    private final RadixSort radixSort = new RadixSort();
+    private final Sorter sorter = new Sorter();
+    private final BitonicSort bitonicSort = new BitonicSort();
+    private final AdaptiveSort adaptiveSort = new AdaptiveSort();
+
+    private int[] source;
+    private int[] work;
+
+    /**
+     * Генерирует исходные данные выбранного распределения.
+     */
+    @Setup
+    public void setUp() {
+        source = generate(distribution, size, new SplittableRandom(42));
+        work = new int[size];
+    }
+
+    static int[] generate(Distribution distribution, int size, SplittableRandom random) {
+        int[] data = new int[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = switch (distribution) {
+                case RANDOM -> random.nextInt();
+                case SORTED -> i;
+                case REVERSED -> size - i;
+                case FEW_UNIQUE -> random.nextInt(16);
+                case ORGAN_PIPE -> Math.min(i, size - 1 - i);
+            };
+        }
+        return data;
+    }
+
+    private int[] fresh() {
+        System.arraycopy(source, 0, work, 0, size);
+        return work;
+    }
+
+    /**
+     * Базовая линия: только копирование данных.
+     */
+    @Benchmark
+    public int[] copyOnly() {
+        return fresh();
+    }
+
+    @Benchmark
+    public int[] heapSort() {
+        return sample.heapSort(fresh());
+    }
+
+    @Benchmark
+    public int[] daryHeapSort() {
+        return daryHeapSort.sort(fresh());
+    }
+
+    @Benchmark
+    public int[] introSort() {
+        return introSort.sort(fresh());
+    }
+
+    @Benchmark
+    public int[] parallelHeapSort() {
+        return parallelHeapSort.sort(fresh());
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        return radixSort.sort(fresh());
+    }
+
+    @Benchmark
+    public int[] sorter() {
+        return sorter.sort(fresh());
+    }
+
+    @Benchmark
+    public int[] bitonicSort() {
+        return bitonicSort.sort(fresh());
+    }
+
+    @Benchmark
+    public int[] adaptiveSort() {
+        return adaptiveSort.sort(fresh());
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] array = fresh();
+        Arrays.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        int[] array = fresh();
+        Arrays.parallelSort(array);
+        return array;
+    }
+}
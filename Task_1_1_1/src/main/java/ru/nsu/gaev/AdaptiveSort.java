@@ -0,0 +1,141 @@
+package ru.nsu.gaev;
+
+/**
+ * Адаптивная сортировка: перед сортировкой кучей ищет естественные упорядоченные серии.
+ *
+ * <p>Участок просматривается один раз и делится на максимальные неубывающие
+ * и строго убывающие серии; убывающие серии сразу разворачиваются на месте.
+ * Если серия одна, участок уже отсортирован и метод возвращается за O(n).
+ * Если серий не больше {@code maxRuns}, они сливаются попарно за
+ * O(n log r) с буфером длины n. Если же серий больше, просмотр прерывается
+ * (на случайных данных это происходит уже через несколько элементов)
+ * и участок сортируется кучей ({@link Sample#heapSort(int[], int, int)}).
+ */
+public class AdaptiveSort implements SortStrategy {
+    /**
+     * Наибольшее число серий, которые по умолчанию сливаются без сортировки кучей.
+     */
+    public static final int DEFAULT_MAX_RUNS = 32;
+
+    private final Sample sample = new Sample();
+    private final int maxRuns;
+
+    /**
+     * Создаёт сортировщик с порогом числа серий по умолчанию.
+     */
+    public AdaptiveSort() {
+        this(DEFAULT_MAX_RUNS);
+    }
+
+    /**
+     * Создаёт сортировщик с заданным порогом числа серий.
+     *
+     * @param maxRuns наибольшее число серий, которые сливаются напрямую
+     * @throws IllegalArgumentException если порог меньше 1
+     */
+    public AdaptiveSort(int maxRuns) {
+        if (maxRuns < 1) {
+            throw new IllegalArgumentException("Max runs must be positive: " + maxRuns);
+        }
+        this.maxRuns = maxRuns;
+    }
+
+    /**
+     * Возвращает наибольшее число серий, которые сливаются напрямую.
+     *
+     * @return порог числа серий
+     */
+    public int getMaxRuns() {
+        return maxRuns;
+    }
+
+    @Override
+    public void sort(int[] array, int from, int to) {
+        IntArrays.checkRange(array.length, from, to);
+        if (to - from < 2) {
+            return;
+        }
+
+        // Границы серий: серия k занимает [bounds[k], bounds[k + 1])
+        int[] bounds = new int[maxRuns + 1];
+        int runs = 0;
+        bounds[0] = from;
+        for (int start = from; start < to; ) {
+            if (runs == maxRuns) {
+                sample.heapSort(array, from, to);
+                return;
+            }
+            int end = runEnd(array, start, to);
+            bounds[++runs] = end;
+            start = end;
+        }
+        if (runs > 1) {
+            mergeRuns(array, bounds, runs);
+        }
+    }
+
+    /**
+     * Находит конец серии, начинающейся в start; строго убывающую серию разворачивает.
+     *
+     * @return индекс за последним элементом серии
+     */
+    private static int runEnd(int[] array, int start, int to) {
+        int end = start + 1;
+        if (end == to) {
+            return end;
+        }
+        if (array[end] < array[start]) {
+            while (end < to && array[end] < array[end - 1]) {
+                end++;
+            }
+            reverse(array, start, end);
+        } else {
+            while (end < to && array[end] >= array[end - 1]) {
+                end++;
+            }
+        }
+        return end;
+    }
+
+    private static void reverse(int[] array, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int swap = array[i];
+            array[i] = array[j];
+            array[j] = swap;
+        }
+    }
+
+    /**
+     * Попарно сливает runs серий снизу вверх, переключаясь между массивом и буфером.
+     */
+    private static void mergeRuns(int[] array, int[] bounds, int runs) {
+        int from = bounds[0];
+        int n = bounds[runs] - from;
+        int[] src = array;
+        int srcFrom = from;
+        int[] dst = new int[n];
+        int dstFrom = 0;
+        while (runs > 1) {
+            int merged = 0;
+            for (int k = 0; k < runs; k += 2) {
+                int lo = bounds[k] - from;
+                int mid = bounds[Math.min(k + 1, runs)] - from;
+                int hi = bounds[Math.min(k + 2, runs)] - from;
+                IntArrays.merge(src, srcFrom + lo, srcFrom + mid, srcFrom + mid, srcFrom + hi,
+                        dst, dstFrom + lo);
+                bounds[++merged] = hi + from;
+            }
+            runs = merged;
+
+            int[] swapArray = src;
+            src = dst;
+            dst = swapArray;
+            int swapFrom = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = swapFrom;
+        }
+        if (src != array) {
+            System.arraycopy(src, srcFrom, array, from, n);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package ru.nsu.gaev;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Сервис сортировки множества небольших независимых массивов.
+ *
+ * <p>Массивы группируются в пакеты по {@code batchSize} штук, и каждый пакет
+ * отправляется на исполнитель одной задачей: так накладные расходы на планирование
+ * делятся на весь пакет, а не ложатся на каждый маленький массив. По умолчанию
+ * используется пул с перехватом работы {@link ForkJoinPool#commonPool()}; можно
+ * передать любой {@link Executor}, например исполнитель виртуальных потоков на JDK 21+.
+ * Массивы сортируются на месте. Для каждого пакета замеряется задержка от отправки
+ * до завершения (включая ожидание в очереди), статистика доступна через {@link #getStats()}.
+ *
+ * <p>Массивы, которые приходят по одному от разных вызывающих, собираются в пакеты
+ * через {@link #submit(int[])}: пакет отправляется, как только в нём наберётся
+ * {@code batchSize} массивов или пройдёт {@code maxDelay} с момента первого массива
+ * в нём, — что наступит раньше. Таймер работает на
+ * {@link CompletableFuture#delayedExecutor}, поэтому сервис не держит своих потоков
+ * и его не нужно закрывать. Задержка в статистике для таких пакетов считается
+ * от первого массива.
+ */
+public class BatchSorter {
+    /**
+     * Размер пакета по умолчанию.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * Наибольшее время ожидания неполного пакета в {@link #submit(int[])} по умолчанию.
+     */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(1);
+
+    private final Executor executor;
+    private final int batchSize;
+    private final SortStrategy strategy;
+    private final Executor timer;
+
+    private final Object lock = new Object();
+    private Pending pending;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder arrays = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Создаёт сервис на общем пуле с размером пакета по умолчанию и фасадом {@link Sorter}.
+     */
+    public BatchSorter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, new Sorter());
+    }
+
+    /**
+     * Создаёт сервис с заданными исполнителем, размером пакета и алгоритмом.
+     *
+     * @param executor исполнитель, на котором сортируются пакеты
+     * @param batchSize число массивов в одном пакете
+     * @param strategy алгоритм сортировки; вызывается из нескольких потоков одновременно
+     * @throws IllegalArgumentException если размер пакета меньше 1
+     */
+    public BatchSorter(Executor executor, int batchSize, SortStrategy strategy) {
+        this(executor, batchSize, strategy, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Создаёт сервис с заданными исполнителем, размером пакета, алгоритмом
+     * и временем ожидания неполного пакета.
+     *
+     * @param executor исполнитель, на котором сортируются пакеты
+     * @param batchSize число массивов в одном пакете
+     * @param strategy алгоритм сортировки; вызывается из нескольких потоков одновременно
+     * @param maxDelay сколько пакет из {@link #submit(int[])} ждёт новых массивов,
+     *                 прежде чем уйти неполным
+     * @throws IllegalArgumentException если размер пакета меньше 1
+     *                                  или время ожидания не положительно
+     */
+    public BatchSorter(Executor executor, int batchSize, SortStrategy strategy,
+                       Duration maxDelay) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("Max delay must be positive: " + maxDelay);
+        }
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.strategy = strategy;
+        this.timer = CompletableFuture.delayedExecutor(maxDelay.toNanos(),
+                TimeUnit.NANOSECONDS, executor);
+    }
+
+    /**
+     * Возвращает размер пакета.
+     *
+     * @return число массивов в одном пакете
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Асинхронно сортирует все массивы списка.
+     *
+     * @param arrays массивы для сортировки
+     * @return future, которое завершается тем же списком, когда отсортированы все массивы;
+     *         обратный вызов можно повесить через {@code whenComplete}
+     */
+    public CompletableFuture<List<int[]>> sortAll(List<int[]> arrays) {
+        CompletableFuture<Void> done = submitBatches(arrays.iterator());
+        return done.thenApply(ignored -> arrays);
+    }
+
+    /**
+     * Асинхронно сортирует все массивы потока. Пакеты отправляются по мере чтения потока.
+     *
+     * @param arrays поток массивов для сортировки
+     * @return future, которое завершается списком массивов в порядке потока
+     */
+    public CompletableFuture<List<int[]>> sortAll(Stream<int[]> arrays) {
+        List<int[]> collected = new ArrayList<>();
+        Iterator<int[]> iterator = arrays.peek(collected::add).iterator();
+        CompletableFuture<Void> done = submitBatches(iterator);
+        return done.thenApply(ignored -> collected);
+    }
+
+    /**
+     * Добавляет массив в текущий пакет очереди. Метод можно вызывать из многих потоков:
+     * их массивы попадают в общие пакеты.
+     *
+     * @param array массив для сортировки
+     * @return future, которое завершается тем же массивом, когда его пакет отсортирован
+     */
+    public CompletableFuture<int[]> submit(int[] array) {
+        CompletableFuture<int[]> future = new CompletableFuture<>();
+        Pending full = null;
+        synchronized (lock) {
+            if (pending == null) {
+                Pending created = new Pending(batchSize);
+                pending = created;
+                timer.execute(() -> flush(created));
+            }
+            pending.add(array, future);
+            if (pending.count == batchSize) {
+                full = pending;
+                pending = null;
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    /**
+     * Сразу отправляет текущий неполный пакет очереди, не дожидаясь таймера.
+     */
+    public void flush() {
+        flush(null);
+    }
+
+    /**
+     * Отправляет текущий пакет, если это batch; null — любой текущий. Таймер пакета,
+     * уже ушедшего по размеру, ничего не делает.
+     */
+    private void flush(Pending batch) {
+        Pending current;
+        synchronized (lock) {
+            current = pending;
+            if (current == null || batch != null && batch != current) {
+                return;
+            }
+            pending = null;
+        }
+        dispatch(current);
+    }
+
+    private void dispatch(Pending batch) {
+        submitBatch(batch.arrays, batch.count, batch.created).whenComplete((ignored, error) -> {
+            for (int i = 0; i < batch.count; i++) {
+                if (error == null) {
+                    batch.futures.get(i).complete(batch.arrays[i]);
+                } else {
+                    batch.futures.get(i).completeExceptionally(error);
+                }
+            }
+        });
+    }
+
+    private CompletableFuture<Void> submitBatches(Iterator<int[]> iterator) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        while (iterator.hasNext()) {
+            int[][] batch = new int[batchSize][];
+            int count = 0;
+            while (count < batchSize && iterator.hasNext()) {
+                batch[count++] = iterator.next();
+            }
+            futures.add(submitBatch(batch, count, System.nanoTime()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private CompletableFuture<Void> submitBatch(int[][] batch, int count, long submitted) {
+        return CompletableFuture.runAsync(() -> {
+            long size = 0;
+            for (int i = 0; i < count; i++) {
+                strategy.sort(batch[i]);
+                size += batch[i].length;
+            }
+            record(count, size, System.nanoTime() - submitted);
+        }, executor);
+    }
+
+    private void record(int count, long size, long nanos) {
+        batches.increment();
+        arrays.add(count);
+        elements.add(size);
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Возвращает снимок статистики по завершённым пакетам.
+     *
+     * @return статистика задержек с момента создания или последнего сброса
+     */
+    public Stats getStats() {
+        return new Stats(batches.sum(), arrays.sum(), elements.sum(),
+                totalNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * Обнуляет статистику. Пакеты, завершающиеся во время сброса, могут учесться частично.
+     */
+    public void resetStats() {
+        batches.reset();
+        arrays.reset();
+        elements.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * Пакет очереди {@link #submit(int[])}, который ещё набирается.
+     */
+    private static final class Pending {
+        private final int[][] arrays;
+        private final List<CompletableFuture<int[]>> futures;
+        private final long created = System.nanoTime();
+        private int count;
+
+        Pending(int batchSize) {
+            arrays = new int[batchSize][];
+            futures = new ArrayList<>(batchSize);
+        }
+
+        void add(int[] array, CompletableFuture<int[]> future) {
+            arrays[count++] = array;
+            futures.add(future);
+        }
+    }
+
+    /**
+     * Снимок статистики задержек пакетов.
+     */
+    public static final class Stats {
+        private final long batches;
+        private final long arrays;
+        private final long elements;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        private Stats(long batches, long arrays, long elements, long totalNanos, long maxNanos) {
+            this.batches = batches;
+            this.arrays = arrays;
+            this.elements = elements;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Возвращает число завершённых пакетов.
+         *
+         * @return количество пакетов
+         */
+        public long getBatches() {
+            return batches;
+        }
+
+        /**
+         * Возвращает число отсортированных массивов.
+         *
+         * @return количество массивов
+         */
+        public long getArrays() {
+            return arrays;
+        }
+
+        /**
+         * Возвращает суммарную длину отсортированных массивов.
+         *
+         * @return количество элементов
+         */
+        public long getElements() {
+            return elements;
+        }
+
+        /**
+         * Возвращает суммарную задержку пакетов.
+         *
+         * @return сумма времён от отправки до завершения в наносекундах
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Возвращает наибольшую задержку пакета.
+         *
+         * @return наибольшее время от отправки до завершения в наносекундах
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Возвращает среднюю задержку пакета.
+         *
+         * @return среднее время от отправки до завершения пакета в наносекундах
+         */
+        public double getMeanNanos() {
+            return batches == 0 ? 0 : (double) totalNanos / batches;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("batches=%d arrays=%d elements=%d mean=%.1fus max=%.1fus",
+                    batches, arrays, elements, getMeanNanos() / 1e3, maxNanos / 1e3);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package ru.nsu.gaev;
+
+/**
+ * Сортировка блоками по 64 элемента сетями компараторов с последующим слиянием.
+ *
+ * <p>Каждый блок рассматривается как матрица 8×8: столбцы сортируются битонической
+ * сетью без ветвлений ({@link BlockSorter}), затем матрица транспонируется на месте
+ * в восемь упорядоченных серий по 8 элементов, которые сливаются в одну серию из 64
+ * битоническими сетями слияния 8 → 16 → 32 → 64 (компараторы на {@link Math#min}
+ * и {@link Math#max}, тоже без ветвлений). Неполный последний блок дополняется
+ * значениями {@link Integer#MAX_VALUE}.
+ *
+ * <p>Готовые блоки сливаются попарно снизу вверх обычным скалярным слиянием
+ * {@link IntArrays#merge}: сеть для слияния серий длины n требует O(n log n)
+ * сравнений вместо O(n), поэтому за пределами блока она невыгодна.
+ *
+ * <p>Если модуль {@code jdk.incubator.vector} подключён (JVM запущена с
+ * {@code --add-modules jdk.incubator.vector}) и процессор поддерживает 256-битные
+ * векторы, сеть выполняется векторными инструкциями; иначе используется скалярная
+ * реализация той же сети. Векторная реализация лежит в отдельном наборе исходников
+ * ({@code src/vector/java}), который один компилируется с этим модулем, и загружается
+ * по имени, поэтому остальной код от модуля не зависит.
+ */
+public class BitonicSort implements SortStrategy {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_SORTER = "ru.nsu.gaev.VectorBlockSorter";
+
+    private final BlockSorter blockSorter;
+
+    /**
+     * Создаёт сортировщик, выбирая векторную реализацию, если она доступна.
+     */
+    public BitonicSort() {
+        this(isVectorApiAvailable() ? vectorBlockSorter() : new ScalarBlockSorter());
+    }
+
+    /**
+     * Создаёт сортировщик с заданной реализацией сети.
+     *
+     * @param blockSorter реализация сортировки столбцов блока
+     */
+    BitonicSort(BlockSorter blockSorter) {
+        this.blockSorter = blockSorter;
+    }
+
+    /**
+     * Проверяет, доступен ли векторный путь в текущей JVM.
+     *
+     * @return true, если модуль Vector API подключён и векторы поддерживаются аппаратно
+     */
+    public static boolean isVectorApiAvailable() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return false;
+        }
+        try {
+            return (Boolean) Class.forName(VECTOR_SORTER).getDeclaredMethod("isSupported")
+                    .invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Класс векторной реализации не попал в classpath
+            return false;
+        }
+    }
+
+    /**
+     * Создаёт векторную реализацию сети. Вызывается, только если
+     * {@link #isVectorApiAvailable()} вернул true.
+     *
+     * @return экземпляр VectorBlockSorter
+     * @throws IllegalStateException если класс не удалось загрузить
+     */
+    static BlockSorter vectorBlockSorter() {
+        try {
+            return (BlockSorter) Class.forName(VECTOR_SORTER).getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Vector block sorter is not available", e);
+        }
+    }
+
+    /**
+     * Проверяет, использует ли этот сортировщик векторную реализацию.
+     *
+     * @return true, если сеть выполняется через Vector API
+     */
+    public boolean isVectorized() {
+        return !(blockSorter instanceof ScalarBlockSorter);
+    }
+
+    @Override
+    public void sort(int[] array, int from, int to) {
+        IntArrays.checkRange(array.length, from, to);
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+
+        for (int block = from; block < to; block += BlockSorter.BLOCK) {
+            int length = Math.min(BlockSorter.BLOCK, to - block);
+            if (length == BlockSorter.BLOCK) {
+                sortBlock(array, block);
+            } else {
+                int[] padded = new int[BlockSorter.BLOCK];
+                System.arraycopy(array, block, padded, 0, length);
+                for (int i = length; i < BlockSorter.BLOCK; i++) {
+                    padded[i] = Integer.MAX_VALUE;
+                }
+                sortBlock(padded, 0);
+                System.arraycopy(padded, 0, array, block, length);
+            }
+        }
+        if (n <= BlockSorter.BLOCK) {
+            return;
+        }
+
+        // Слияние отсортированных блоков снизу вверх с переключением между массивами
+        int[] src = array;
+        int srcFrom = from;
+        int[] dst = new int[n];
+        int dstFrom = 0;
+        for (int width = BlockSorter.BLOCK; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                IntArrays.merge(src, srcFrom + lo, srcFrom + mid, srcFrom + mid, srcFrom + hi,
+                        dst, dstFrom + lo);
+            }
+            int[] swapArray = src;
+            src = dst;
+            dst = swapArray;
+            int swapFrom = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = swapFrom;
+        }
+        if (src != array) {
+            System.arraycopy(src, srcFrom, array, from, n);
+        }
+    }
+
+    /**
+     * Сортирует блок из 64 элементов: сеть по столбцам, транспонирование
+     * и три уровня битонического слияния серий 8 → 16 → 32 → 64.
+     *
+     * @param array массив с блоком
+     * @param offset начало блока
+     */
+    private void sortBlock(int[] array, int offset) {
+        blockSorter.sortColumns(array, offset);
+
+        // Транспонирование на месте: столбец l становится серией [8l, 8l + 8)
+        for (int row = 0; row < BlockSorter.ROWS; row++) {
+            for (int lane = row + 1; lane < BlockSorter.LANES; lane++) {
+                int i = offset + row * BlockSorter.LANES + lane;
+                int j = offset + lane * BlockSorter.ROWS + row;
+                int value = array[i];
+                array[i] = array[j];
+                array[j] = value;
+            }
+        }
+
+        for (int size = 2 * BlockSorter.ROWS; size <= BlockSorter.BLOCK; size *= 2) {
+            for (int lo = offset; lo < offset + BlockSorter.BLOCK; lo += size) {
+                mergeNetwork(array, lo, size);
+            }
+        }
+    }
+
+    /**
+     * Сливает две соседние упорядоченные серии длины size / 2 битонической сетью.
+     * Первый шаг сравнивает элементы, симметричные относительно середины, — это
+     * разворачивает вторую серию и делает последовательность битонической;
+     * затем полуочистители с шагом size / 4, ..., 1 доупорядочивают обе половины.
+     *
+     * @param array массив с сериями
+     * @param lo начало первой серии
+     * @param size суммарная длина серий, степень двойки
+     */
+    private static void mergeNetwork(int[] array, int lo, int size) {
+        int half = size / 2;
+        for (int i = 0; i < half; i++) {
+            compareExchange(array, lo + i, lo + size - 1 - i);
+        }
+        for (int stride = half / 2; stride > 0; stride /= 2) {
+            for (int group = lo; group < lo + size; group += 2 * stride) {
+                for (int i = group; i < group + stride; i++) {
+                    compareExchange(array, i, i + stride);
+                }
+            }
+        }
+    }
+
+    private static void compareExchange(int[] array, int i, int j) {
+        int a = array[i];
+        int b = array[j];
+        array[i] = Math.min(a, b);
+        array[j] = Math.max(a, b);
+    }
+}
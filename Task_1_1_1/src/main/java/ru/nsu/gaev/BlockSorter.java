@@ -0,0 +1,34 @@
+package ru.nsu.gaev;
+
+/**
+ * Сортировка столбцов блока 8×8 сетью компараторов.
+ *
+ * <p>Блок из 64 int хранится по строкам: элемент строки r и столбца l лежит
+ * в позиции {@code offset + 8 * r + l}. После {@link #sortColumns} каждый столбец
+ * упорядочен по возрастанию сверху вниз. Используется битоническая сеть для восьми
+ * входов (24 компаратора), одинаковая для векторной и скалярной реализаций.
+ */
+interface BlockSorter {
+    /**
+     * Число строк в блоке (входов сети).
+     */
+    int ROWS = 8;
+
+    /**
+     * Число столбцов в блоке (элементов int в 256-битном векторе).
+     */
+    int LANES = 8;
+
+    /**
+     * Число элементов в блоке.
+     */
+    int BLOCK = ROWS * LANES;
+
+    /**
+     * Сортирует каждый из восьми столбцов блока, начинающегося с offset.
+     *
+     * @param array массив с блоком
+     * @param offset индекс первого элемента блока
+     */
+    void sortColumns(int[] array, int offset);
+}
@@ -0,0 +1,52 @@
+package ru.nsu.gaev;
+
+/**
+ * Сортировка кучей с блочной раскладкой ({@link BlockedIntHeap}) для очень больших массивов.
+ *
+ * <p>Блочную кучу нельзя сжимать на месте, как в классическом heapsort: освобождаемые
+ * позиции разбросаны по блокам. Поэтому участок копируется в кучу (O(n) дополнительной
+ * памяти), а затем минимумы извлекаются в массив подряд, слева направо.
+ */
+public class BlockedHeapSort implements SortStrategy {
+    private final int pageHeight;
+
+    /**
+     * Создаёт сортировщик с высотой блока по умолчанию.
+     */
+    public BlockedHeapSort() {
+        this(BlockedIntHeap.DEFAULT_PAGE_HEIGHT);
+    }
+
+    /**
+     * Создаёт сортировщик с заданной высотой блока.
+     *
+     * @param pageHeight высота поддерева в одном блоке
+     * @throws IllegalArgumentException если высота не из диапазона [1, 30]
+     */
+    public BlockedHeapSort(int pageHeight) {
+        BlockedIntHeap.checkPageHeight(pageHeight);
+        this.pageHeight = pageHeight;
+    }
+
+    /**
+     * Возвращает высоту блока.
+     *
+     * @return высота поддерева в одном блоке
+     */
+    public int getPageHeight() {
+        return pageHeight;
+    }
+
+    @Override
+    public void sort(int[] array, int from, int to) {
+        IntArrays.checkRange(array.length, from, to);
+        if (to - from < 2) {
+            return;
+        }
+        BlockedIntHeap heap = BlockedIntHeap.heapify(array, from, to, IntHeap.Order.MIN,
+                pageHeight);
+        for (int i = from; i < to; i++) {
+            array[i] = heap.pop();
+        }
+    }
+}
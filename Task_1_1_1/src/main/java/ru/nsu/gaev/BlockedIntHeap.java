@@ -0,0 +1,329 @@
+package ru.nsu.gaev;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Двоичная куча int с блочной раскладкой в памяти (вариант B-heap).
+ *
+ * <p>В обычной куче потомки узла i лежат в 2i + 1 и 2i + 2, поэтому при спуске
+ * каждый следующий уровень находится вдвое дальше предыдущего, и на массивах
+ * в сотни мегабайт почти каждый шаг просеивания попадает на новую страницу памяти
+ * и промахивается мимо TLB. Здесь дерево разрезано на поддеревья высоты
+ * {@code pageHeight}, и каждое поддерево хранится в массиве непрерывно: при высоте
+ * по умолчанию 10 это 1023 числа, то есть примерно одна страница в 4 КиБ. Спуск
+ * проходит {@code pageHeight} уровней внутри одной страницы, прежде чем перейти
+ * к следующей.
+ *
+ * <p>Логически куча остаётся обычной полной двоичной кучей с индексами 0..size-1;
+ * физическая позиция узла вычисляется по логическому индексу несколькими
+ * арифметическими операциями и небольшими таблицами на каждую глубину. Раскладка
+ * зависит от полной высоты дерева, поэтому при росте ёмкости (удвоении) элементы
+ * раскладываются заново за O(n), что при удвоении даёт амортизированно O(1) на
+ * вставку. Ориентация и кодирование значений такие же, как в {@link IntHeap}.
+ */
+public class BlockedIntHeap {
+    /**
+     * Высота поддерева в одном блоке по умолчанию (1023 числа int, около 4 КиБ).
+     */
+    public static final int DEFAULT_PAGE_HEIGHT = 10;
+
+    /**
+     * Наибольшая высота дерева: ёмкость 2^30 - 1 ещё помещается в массив Java.
+     */
+    static final int MAX_HEIGHT = 30;
+
+    private final IntHeap.Order order;
+    private final int mask;
+    private final int pageHeight;
+    private Layout layout;
+    private int[] heap;
+    private int size;
+
+    /**
+     * Создаёт пустую кучу с блоками высоты по умолчанию.
+     *
+     * @param order ориентация кучи
+     */
+    public BlockedIntHeap(IntHeap.Order order) {
+        this(order, 0, DEFAULT_PAGE_HEIGHT);
+    }
+
+    /**
+     * Создаёт пустую кучу с заданной начальной ёмкостью и высотой блока.
+     *
+     * @param order ориентация кучи
+     * @param initialCapacity начальная ёмкость
+     * @param pageHeight высота поддерева в одном блоке; 1 даёт обычную раскладку кучи
+     * @throws IllegalArgumentException если ёмкость отрицательна или слишком велика,
+     *                                  или высота блока не из диапазона [1, 30]
+     */
+    public BlockedIntHeap(IntHeap.Order order, int initialCapacity, int pageHeight) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative: " + initialCapacity);
+        }
+        checkPageHeight(pageHeight);
+        this.order = order;
+        this.mask = order == IntHeap.Order.MAX ? -1 : 0;
+        this.pageHeight = pageHeight;
+        this.layout = new Layout(heightFor(initialCapacity), pageHeight);
+        this.heap = new int[layout.capacity()];
+    }
+
+    /**
+     * Строит кучу из копии участка массива за O(n).
+     *
+     * @param values исходные значения (массив не изменяется)
+     * @param from начало участка
+     * @param to конец участка (не включительно)
+     * @param order ориентация кучи
+     * @param pageHeight высота поддерева в одном блоке
+     * @return новая куча, содержащая значения участка
+     */
+    public static BlockedIntHeap heapify(int[] values, int from, int to, IntHeap.Order order,
+                                         int pageHeight) {
+        IntArrays.checkRange(values.length, from, to);
+        BlockedIntHeap result = new BlockedIntHeap(order, to - from, pageHeight);
+        Layout layout = result.layout;
+        for (int i = from; i < to; i++) {
+            result.heap[layout.position(i - from)] = values[i] ^ result.mask;
+        }
+        result.size = to - from;
+        for (int i = result.size / 2 - 1; i >= 0; i--) {
+            int position = layout.position(i);
+            result.siftDown(i, position, result.heap[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает ориентацию кучи.
+     *
+     * @return ориентация кучи
+     */
+    public IntHeap.Order getOrder() {
+        return order;
+    }
+
+    /**
+     * Возвращает высоту поддерева в одном блоке.
+     *
+     * @return высота блока
+     */
+    public int getPageHeight() {
+        return pageHeight;
+    }
+
+    /**
+     * Возвращает количество элементов в куче.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуста ли куча.
+     *
+     * @return true, если элементов нет
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы, сохраняя выделенную память.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Гарантирует, что в куче поместится capacity элементов без перераскладки.
+     *
+     * @param capacity требуемая ёмкость
+     * @throws IllegalArgumentException если ёмкость больше 2^30 - 1
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= heap.length) {
+            return;
+        }
+        Layout grown = new Layout(Math.max(heightFor(capacity), layout.height + 1), pageHeight);
+        int[] relaid = new int[grown.capacity()];
+        for (int i = 0; i < size; i++) {
+            relaid[grown.position(i)] = heap[layout.position(i)];
+        }
+        layout = grown;
+        heap = relaid;
+    }
+
+    /**
+     * Добавляет элемент в кучу за O(log n).
+     *
+     * @param value добавляемое значение
+     */
+    public void push(int value) {
+        if (size == heap.length) {
+            ensureCapacity(size + 1);
+        }
+        int hole = size++;
+        siftUp(hole, layout.position(hole), value ^ mask);
+    }
+
+    /**
+     * Возвращает вершину кучи, не удаляя её.
+     *
+     * @return наименьший (MIN) или наибольший (MAX) элемент
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0] ^ mask;
+    }
+
+    /**
+     * Удаляет и возвращает вершину кучи за O(log n).
+     *
+     * @return наименьший (MIN) или наибольший (MAX) элемент
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int pop() {
+        int top = peek();
+        int last = heap[layout.position(--size)];
+        if (size > 0) {
+            siftDown(0, 0, last);
+        }
+        return top;
+    }
+
+    /**
+     * Заменяет вершину кучи новым значением за одно просеивание.
+     *
+     * @param value новое значение
+     * @return прежняя вершина кучи
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int replaceTop(int value) {
+        int top = peek();
+        siftDown(0, 0, value ^ mask);
+        return top;
+    }
+
+    /**
+     * Поднимает закодированное значение от логического индекса hole
+     * (физическая позиция position) к корню.
+     */
+    private void siftUp(int hole, int position, int value) {
+        while (hole > 0) {
+            int parent = (hole - 1) >>> 1;
+            int parentPosition = layout.position(parent);
+            if (heap[parentPosition] <= value) {
+                break;
+            }
+            heap[position] = heap[parentPosition];
+            hole = parent;
+            position = parentPosition;
+        }
+        heap[position] = value;
+    }
+
+    /**
+     * Опускает закодированное значение от логического индекса hole
+     * (физическая позиция position) к листьям.
+     */
+    private void siftDown(int hole, int position, int value) {
+        int half = size >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            int childPosition = layout.position(child);
+            if (child + 1 < size) {
+                int rightPosition = layout.position(child + 1);
+                if (heap[rightPosition] < heap[childPosition]) {
+                    child++;
+                    childPosition = rightPosition;
+                }
+            }
+            if (value <= heap[childPosition]) {
+                break;
+            }
+            heap[position] = heap[childPosition];
+            hole = child;
+            position = childPosition;
+        }
+        heap[position] = value;
+    }
+
+    /**
+     * Проверяет высоту блока.
+     *
+     * @param pageHeight высота поддерева в одном блоке
+     * @throws IllegalArgumentException если высота не из диапазона [1, {@link #MAX_HEIGHT}]
+     */
+    static void checkPageHeight(int pageHeight) {
+        if (pageHeight < 1 || pageHeight > MAX_HEIGHT) {
+            throw new IllegalArgumentException(
+                    "Page height must be in [1, " + MAX_HEIGHT + "]: " + pageHeight);
+        }
+    }
+
+    /**
+     * Возвращает наименьшую высоту полного дерева, вмещающего capacity узлов.
+     */
+    private static int heightFor(int capacity) {
+        int height = Integer.SIZE - Integer.numberOfLeadingZeros(capacity);
+        if (height > MAX_HEIGHT) {
+            throw new IllegalArgumentException("Capacity is too large: " + capacity);
+        }
+        return height;
+    }
+
+    /**
+     * Блочная раскладка полного дерева заданной высоты.
+     *
+     * <p>Уровни дерева сверху вниз делятся на группы по {@code pageHeight} (последняя
+     * группа может быть ниже). Группа g начинается на глубине g * pageHeight и состоит
+     * из 2^(g * pageHeight) блоков-поддеревьев; все узлы выше группы занимают ровно
+     * 2^(g * pageHeight) - 1 позиций, поэтому группа начинается с этой позиции.
+     * Внутри блока узлы лежат в обычном порядке кучи, блоки одной группы — слева направо.
+     */
+    private static final class Layout {
+        private final int height;
+        private final int[] base;
+        private final int[] shift;
+        private final int[] pageSize;
+
+        Layout(int height, int pageHeight) {
+            this.height = height;
+            this.base = new int[height];
+            this.shift = new int[height];
+            this.pageSize = new int[height];
+            for (int depth = 0; depth < height; depth++) {
+                int groupDepth = depth - depth % pageHeight;
+                int groupHeight = Math.min(pageHeight, height - groupDepth);
+                int local = depth - groupDepth;
+                // Начало группы плюс смещение уровня local внутри блока
+                base[depth] = (1 << groupDepth) - 1 + (1 << local) - 1;
+                shift[depth] = local;
+                pageSize[depth] = (1 << groupHeight) - 1;
+            }
+        }
+
+        int capacity() {
+            return (1 << height) - 1;
+        }
+
+        /**
+         * Переводит логический индекс узла кучи в позицию в массиве.
+         */
+        int position(int index) {
+            int node = index + 1;
+            int depth = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(node);
+            int offset = node - (1 << depth);
+            int local = shift[depth];
+            return base[depth] + (offset >>> local) * pageSize[depth]
+                    + (offset & ((1 << local) - 1));
+        }
+    }
+}
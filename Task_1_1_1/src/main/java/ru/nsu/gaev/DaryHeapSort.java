@@ -0,0 +1,100 @@
+package ru.nsu.gaev;
+
+/**
+ * Сортировка итеративной d-арной кучей с восходящим просеиванием (вариант Флойда).
+ *
+ * <p>При просеивании «дырка» сначала спускается до листа по наибольшим потомкам
+ * (без сравнения с просеиваемым элементом), а затем элемент поднимается от листа
+ * на своё место. Поскольку извлекаемый из конца элемент почти всегда оказывается
+ * внизу, подъём короткий, и сравнений выходит меньше, чем у классического heapify.
+ * При арности 4 или 8 все потомки узла лежат рядом и читаются из одной кэш-линии,
+ * а высота кучи уменьшается в 2–3 раза.
+ */
+public class DaryHeapSort implements SortStrategy {
+    private final int arity;
+    private final int shift;
+
+    /**
+     * Создаёт сортировщик с заданной арностью кучи.
+     *
+     * @param arity число потомков у узла: 2, 4 или 8
+     * @throws IllegalArgumentException если арность не поддерживается
+     */
+    public DaryHeapSort(int arity) {
+        if (arity != 2 && arity != 4 && arity != 8) {
+            throw new IllegalArgumentException("Arity must be 2, 4 or 8: " + arity);
+        }
+        this.arity = arity;
+        this.shift = Integer.numberOfTrailingZeros(arity);
+    }
+
+    /**
+     * Возвращает арность кучи.
+     *
+     * @return число потомков у узла
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    @Override
+    public void sort(int[] array, int from, int to) {
+        IntArrays.checkRange(array.length, from, to);
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+
+        // Строим кучу: просеиваем все внутренние узлы, начиная с последнего
+        for (int i = (n - 2) >> shift; i >= 0; i--) {
+            siftDown(array, from, n, i, array[from + i]);
+        }
+
+        // Извлекаем максимум в конец и просеиваем последний элемент от корня
+        for (int size = n - 1; size > 0; size--) {
+            int last = array[from + size];
+            array[from + size] = array[from];
+            siftDown(array, from, size, 0, last);
+        }
+    }
+
+    /**
+     * Восходящее просеивание: дырка в позиции root спускается до листа,
+     * после чего value поднимается от листа, но не выше root.
+     *
+     * @param array массив, представляющий кучу
+     * @param offset индекс корня кучи в массиве
+     * @param n размер кучи
+     * @param root индекс узла, с которого начинается просеивание
+     * @param value значение, которое нужно поместить в поддерево root
+     */
+    private void siftDown(int[] array, int offset, int n, int root, int value) {
+        int hole = root;
+        int child = (hole << shift) + 1;
+
+        // Спуск до листа: на каждом уровне выбираем наибольшего потомка
+        while (child < n) {
+            int last = Math.min(child + arity, n);
+            int largest = child;
+            for (int c = child + 1; c < last; c++) {
+                if (array[offset + c] > array[offset + largest]) {
+                    largest = c;
+                }
+            }
+            array[offset + hole] = array[offset + largest];
+            hole = largest;
+            child = (hole << shift) + 1;
+        }
+
+        // Подъём: ставим value на место, сдвигая вниз меньших предков
+        while (hole > root) {
+            int parent = (hole - 1) >> shift;
+            if (array[offset + parent] >= value) {
+                break;
+            }
+            array[offset + hole] = array[offset + parent];
+            hole = parent;
+        }
+        array[offset + hole] = value;
+    }
+}
@@ -0,0 +1,224 @@
+package ru.nsu.gaev;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Внешняя сортировка двоичных файлов int, которые не помещаются в память.
+ *
+ * <p>Файл читается участками по {@code runSize} чисел через один переиспользуемый
+ * буфер канала (без отображения в память, чтобы не копить отображения до сборки
+ * мусора), каждый участок сортируется кучей ({@link Sample#heapSort(int[], int, int)})
+ * и сбрасывается во временный файл. Затем участки сливаются по {@code fanIn}
+ * штук за проход через {@link KWayMerger}; на каждый участок при слиянии
+ * в памяти держится ровно один буфер. Числа хранятся в порядке байтов big-endian,
+ * как их пишет {@link java.io.DataOutputStream}.
+ */
+public class ExternalHeapSort {
+    /**
+     * Длина участка по умолчанию (в числах int, 64 МиБ).
+     */
+    public static final int DEFAULT_RUN_SIZE = 1 << 24;
+
+    /**
+     * Число участков, сливаемых за один проход, по умолчанию.
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * Размер буфера чтения одного участка при слиянии (в байтах).
+     */
+    public static final int BUFFER_SIZE = 1 << 16;
+
+    private final Sample sample = new Sample();
+    private final int runSize;
+    private final int fanIn;
+    private final Path tempDir;
+
+    /**
+     * Создаёт сортировщик с параметрами по умолчанию и системным каталогом временных файлов.
+     */
+    public ExternalHeapSort() {
+        this(DEFAULT_RUN_SIZE, DEFAULT_FAN_IN, null);
+    }
+
+    /**
+     * Создаёт сортировщик с заданными параметрами.
+     *
+     * @param runSize число int, сортируемых в памяти за раз
+     * @param fanIn число участков, сливаемых за один проход (не меньше 2)
+     * @param tempDir каталог для временных файлов или null для системного
+     * @throws IllegalArgumentException если runSize &lt; 1 или fanIn &lt; 2
+     */
+    public ExternalHeapSort(int runSize, int fanIn, Path tempDir) {
+        if (runSize < 1) {
+            throw new IllegalArgumentException("Run size must be positive: " + runSize);
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2: " + fanIn);
+        }
+        this.runSize = runSize;
+        this.fanIn = fanIn;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Сортирует файл input и записывает результат в output.
+     *
+     * @param input двоичный файл чисел int
+     * @param output файл для результата (перезаписывается)
+     * @throws IOException при ошибке ввода-вывода
+     * @throws IllegalArgumentException если размер input не кратен 4 байтам
+     */
+    public void sort(Path input, Path output) throws IOException {
+        List<Path> temps = new ArrayList<>();
+        try {
+            List<Path> runs = new ArrayList<>();
+            if (createRuns(input, output, runs, temps)) {
+                return;
+            }
+            // Многопроходное слияние, пока участков больше, чем fanIn
+            while (runs.size() > fanIn) {
+                List<Path> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    Path run = createTempFile(temps);
+                    merged.add(run);
+                    merge(group, run);
+                    for (Path path : group) {
+                        Files.delete(path);
+                    }
+                }
+                runs = merged;
+            }
+            merge(runs, output);
+        } finally {
+            for (Path temp : temps) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * Разбивает input на отсортированные участки во временных файлах.
+     * Если участок всего один, он сразу пишется в output.
+     *
+     * @return true, если результат уже записан в output
+     */
+    private boolean createRuns(Path input, Path output, List<Path> runs, List<Path> temps)
+            throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException(
+                        "File size is not a multiple of " + Integer.BYTES + ": " + size);
+            }
+            long count = size / Integer.BYTES;
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            if (count <= runSize) {
+                int[] data = new int[(int) count];
+                read(in, 0, data, data.length, buffer);
+                write(output, data, data.length);
+                return true;
+            }
+
+            int[] run = new int[runSize];
+            for (long start = 0; start < count; start += runSize) {
+                int length = (int) Math.min(runSize, count - start);
+                read(in, start, run, length, buffer);
+                Path path = createTempFile(temps);
+                runs.add(path);
+                write(path, run, length);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Читает length чисел, начиная с числа start, порциями через buffer
+     * и сортирует их кучей.
+     */
+    private void read(FileChannel in, long start, int[] run, int length, ByteBuffer buffer)
+            throws IOException {
+        IntBuffer ints = buffer.clear().asIntBuffer();
+        long position = start * Integer.BYTES;
+        for (int i = 0; i < length; i += ints.capacity()) {
+            int chunk = Math.min(ints.capacity(), length - i);
+            buffer.clear().limit(chunk * Integer.BYTES);
+            while (buffer.hasRemaining()) {
+                if (in.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of file at byte " + position);
+                }
+            }
+            ints.clear();
+            ints.get(run, i, chunk);
+            position += (long) chunk * Integer.BYTES;
+        }
+        sample.heapSort(run, 0, length);
+    }
+
+    private static void write(Path path, int[] data, int length) throws IOException {
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            IntBuffer ints = buffer.asIntBuffer();
+            for (int i = 0; i < length; i += ints.capacity()) {
+                int chunk = Math.min(ints.capacity(), length - i);
+                ints.clear();
+                ints.put(data, i, chunk);
+                buffer.clear().limit(chunk * Integer.BYTES);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * k-путевое слияние отсортированных файлов в output через {@link KWayMerger}.
+     */
+    private static void merge(List<Path> runs, Path output) throws IOException {
+        try (KWayMerger merger = KWayMerger.ofFiles(runs);
+                FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (merger.hasNext()) {
+                if (!buffer.hasRemaining()) {
+                    flush(out, buffer);
+                }
+                buffer.putInt(merger.nextInt());
+            }
+            flush(out, buffer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Создаёт временный файл для участка и запоминает его для последующего удаления.
+     */
+    private Path createTempFile(List<Path> temps) throws IOException {
+        Path path = tempDir == null
+                ? Files.createTempFile("heapsort-run", ".bin")
+                : Files.createTempFile(tempDir, "heapsort-run", ".bin");
+        temps.add(path);
+        return path;
+    }
+}
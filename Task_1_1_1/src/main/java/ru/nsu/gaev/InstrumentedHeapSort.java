@@ -0,0 +1,80 @@
+package ru.nsu.gaev;
+
+/**
+ * Сортировка кучей с подсчётом сравнений, обменов и глубин просеивания.
+ *
+ * <p>Повторяет {@link Sample#heapSort(int[], int, int)} шаг в шаг, но каждое действие
+ * отмечает в {@link SortStats}. Это отдельный класс, а не флаг внутри {@link Sample},
+ * поэтому основной путь сортировки не содержит ни проверок, ни счётчиков и работает
+ * так же быстро, как без инструментирования. Результат и порядок обменов совпадают
+ * с {@link Sample}, так что статистика описывает именно его поведение.
+ */
+public class InstrumentedHeapSort implements SortStrategy {
+    private final SortStats stats;
+
+    /**
+     * Создаёт сортировщик, пишущий статистику в заданный приёмник.
+     *
+     * @param stats приёмник статистики
+     */
+    public InstrumentedHeapSort(SortStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Возвращает приёмник статистики.
+     *
+     * @return статистика, накопленная этим сортировщиком
+     */
+    public SortStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void sort(int[] array, int from, int to) {
+        IntArrays.checkRange(array.length, from, to);
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, from, n, i);
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            int temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+            stats.addSwap();
+            heapify(array, from, i, 0);
+        }
+    }
+
+    private void heapify(int[] array, int offset, int n, int i) {
+        int depth = 0;
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+
+            if (left < n) {
+                stats.addComparisons(1);
+                if (array[offset + left] > array[offset + largest]) {
+                    largest = left;
+                }
+            }
+            if (right < n) {
+                stats.addComparisons(1);
+                if (array[offset + right] > array[offset + largest]) {
+                    largest = right;
+                }
+            }
+            if (largest == i) {
+                stats.addSift(depth);
+                return;
+            }
+            int swap = array[offset + i];
+            array[offset + i] = array[offset + largest];
+            array[offset + largest] = swap;
+            stats.addSwap();
+            depth++;
+            i = largest;
+        }
+    }
+}
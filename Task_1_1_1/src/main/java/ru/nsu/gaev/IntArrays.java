@@ -0,0 +1,95 @@
+package ru.nsu.gaev;
+
+/**
+ * Вспомогательные операции над массивами int, общие для разных режимов сортировки.
+ */
+final class IntArrays {
+
+    private IntArrays() {
+    }
+
+    /**
+     * Сливает два отсортированных участка src[lo1, hi1) и src[lo2, hi2)
+     * в массив dst, начиная с позиции out.
+     *
+     * @param src исходный массив
+     * @param lo1 начало первого участка
+     * @param hi1 конец первого участка (не включительно)
+     * @param lo2 начало второго участка
+     * @param hi2 конец второго участка (не включительно)
+     * @param dst массив для результата (не должен пересекаться с участками src)
+     * @param out позиция в dst, с которой записывается результат
+     */
+    static void merge(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+        while (lo1 < hi1 && lo2 < hi2) {
+            dst[out++] = src[lo1] <= src[lo2] ? src[lo1++] : src[lo2++];
+        }
+        if (lo1 < hi1) {
+            System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        } else if (lo2 < hi2) {
+            System.arraycopy(src, lo2, dst, out, hi2 - lo2);
+        }
+    }
+
+    /**
+     * Находит первую позицию в отсортированном участке [from, to), элемент в которой
+     * не меньше key.
+     *
+     * @param array отсортированный массив
+     * @param from начало участка
+     * @param to конец участка (не включительно)
+     * @param key искомое значение
+     * @return индекс нижней границы key
+     */
+    static int lowerBound(int[] array, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (array[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Сортировка вставками участка [from, to). Быстрее остальных на коротких участках.
+     *
+     * @param array массив для сортировки
+     * @param from начало участка
+     * @param to конец участка (не включительно)
+     */
+    static void insertionSort(int[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int value = array[i];
+            int j = i - 1;
+            while (j >= from && array[j] > value) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    /**
+     * Проверяет границы участка [from, to) так же, как {@code Arrays.sort}.
+     *
+     * @param length длина массива
+     * @param from начало участка
+     * @param to конец участка (не включительно)
+     * @throws IllegalArgumentException если from &gt; to
+     * @throws ArrayIndexOutOfBoundsException если from &lt; 0 или to &gt; length
+     */
+    static void checkRange(int length, int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0) {
+            throw new ArrayIndexOutOfBoundsException(from);
+        }
+        if (to > length) {
+            throw new ArrayIndexOutOfBoundsException(to);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package ru.nsu.gaev;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Растущая двоичная куча примитивных int (очередь с приоритетом без упаковки).
+ *
+ * <p>Ориентация задаётся {@link Order}. Внутри куча всегда минимальная: для
+ * максимальной кучи хранятся побитовые дополнения значений ({@code ~x}), которые
+ * упорядочены в обратную сторону, поэтому обе ориентации используют один и тот же
+ * код просеивания минимальной кучи ({@link IntHeaps}) без лишних ветвлений.
+ * Операции не выделяют память, кроме удвоения массива при росте (его можно
+ * заранее избежать через {@link #ensureCapacity(int)}).
+ */
+public class IntHeap {
+    /**
+     * Ориентация кучи.
+     */
+    public enum Order {
+        /**
+         * В вершине наименьший элемент.
+         */
+        MIN,
+        /**
+         * В вершине наибольший элемент.
+         */
+        MAX
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Order order;
+    private final int mask;
+    private int[] heap;
+    private int size;
+
+    /**
+     * Создаёт пустую кучу с начальной ёмкостью по умолчанию.
+     *
+     * @param order ориентация кучи
+     */
+    public IntHeap(Order order) {
+        this(order, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создаёт пустую кучу с заданной начальной ёмкостью.
+     *
+     * @param order ориентация кучи
+     * @param initialCapacity начальная ёмкость
+     * @throws IllegalArgumentException если ёмкость отрицательна
+     */
+    public IntHeap(Order order, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative: " + initialCapacity);
+        }
+        this.order = order;
+        this.mask = order == Order.MAX ? -1 : 0;
+        this.heap = new int[initialCapacity];
+    }
+
+    /**
+     * Строит кучу из копии массива за O(n).
+     *
+     * @param values исходные значения (массив не изменяется)
+     * @param order ориентация кучи
+     * @return новая куча, содержащая все значения
+     */
+    public static IntHeap heapify(int[] values, Order order) {
+        IntHeap result = new IntHeap(order, values.length);
+        for (int i = 0; i < values.length; i++) {
+            result.heap[i] = values[i] ^ result.mask;
+        }
+        result.size = values.length;
+        for (int i = result.size / 2 - 1; i >= 0; i--) {
+            result.siftDown(i, result.heap[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает ориентацию кучи.
+     *
+     * @return ориентация кучи
+     */
+    public Order getOrder() {
+        return order;
+    }
+
+    /**
+     * Возвращает количество элементов в куче.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуста ли куча.
+     *
+     * @return true, если элементов нет
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы, сохраняя выделенную память.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Гарантирует, что в куче поместится capacity элементов без перевыделения памяти.
+     *
+     * @param capacity требуемая ёмкость
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(capacity, 2 * heap.length));
+        }
+    }
+
+    /**
+     * Добавляет элемент в кучу за O(log n).
+     *
+     * @param value добавляемое значение
+     */
+    public void push(int value) {
+        if (size == heap.length) {
+            ensureCapacity(size + 1);
+        }
+        siftUp(size++, value ^ mask);
+    }
+
+    /**
+     * Возвращает вершину кучи, не удаляя её.
+     *
+     * @return наименьший (MIN) или наибольший (MAX) элемент
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0] ^ mask;
+    }
+
+    /**
+     * Удаляет и возвращает вершину кучи за O(log n).
+     *
+     * @return наименьший (MIN) или наибольший (MAX) элемент
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int pop() {
+        int top = peek();
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return top;
+    }
+
+    /**
+     * Заменяет вершину кучи новым значением за одно просеивание.
+     * Быстрее, чем pop и push подряд.
+     *
+     * @param value новое значение
+     * @return прежняя вершина кучи
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int replaceTop(int value) {
+        int top = peek();
+        siftDown(0, value ^ mask);
+        return top;
+    }
+
+    /**
+     * Поднимает закодированное значение от позиции hole к корню.
+     */
+    private void siftUp(int hole, int value) {
+        IntHeaps.siftUp(heap, hole, value);
+    }
+
+    /**
+     * Опускает закодированное значение от позиции hole к листьям.
+     */
+    private void siftDown(int hole, int value) {
+        IntHeaps.siftDown(heap, 0, size, hole, value, IntHeaps.MIN);
+    }
+}
@@ -0,0 +1,72 @@
+package ru.nsu.gaev;
+
+/**
+ * Просеивание двоичной кучи int, общее для {@link Sample} и {@link IntHeap}.
+ *
+ * <p>Куча лежит в heap[offset, offset + n) и упорядочена как минимальная по ключам
+ * {@code x ^ mask}: при mask = 0 это обычная минимальная куча, при mask = -1 —
+ * максимальная, потому что побитовое дополнение обращает порядок int. Значение
+ * двигается «дыркой»: соседи сдвигаются на её место, а само значение записывается
+ * один раз в конечную позицию, без обменов.
+ */
+final class IntHeaps {
+    /**
+     * Маска минимальной кучи.
+     */
+    static final int MIN = 0;
+
+    /**
+     * Маска максимальной кучи.
+     */
+    static final int MAX = -1;
+
+    private IntHeaps() {
+    }
+
+    /**
+     * Опускает value от позиции hole к листьям.
+     *
+     * @param heap массив с кучей
+     * @param offset индекс корня кучи в массиве
+     * @param n размер кучи
+     * @param hole позиция относительно offset, с которой начинается просеивание
+     * @param value значение, которое нужно поставить в позицию hole
+     * @param mask {@link #MIN} или {@link #MAX}
+     */
+    static void siftDown(int[] heap, int offset, int n, int hole, int value, int mask) {
+        int key = value ^ mask;
+        int half = n >>> 1;
+        while (hole < half) {
+            int child = 2 * hole + 1;
+            int right = child + 1;
+            if (right < n && (heap[offset + right] ^ mask) < (heap[offset + child] ^ mask)) {
+                child = right;
+            }
+            if (key <= (heap[offset + child] ^ mask)) {
+                break;
+            }
+            heap[offset + hole] = heap[offset + child];
+            hole = child;
+        }
+        heap[offset + hole] = value;
+    }
+
+    /**
+     * Поднимает value от позиции hole к корню минимальной кучи, начинающейся с нуля.
+     *
+     * @param heap массив с кучей
+     * @param hole позиция, с которой начинается просеивание
+     * @param value значение, которое нужно поставить в позицию hole
+     */
+    static void siftUp(int[] heap, int hole, int value) {
+        while (hole > 0) {
+            int parent = (hole - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[hole] = heap[parent];
+            hole = parent;
+        }
+        heap[hole] = value;
+    }
+}
@@ -0,0 +1,136 @@
+package ru.nsu.gaev;
+
+/**
+ * Интроспективная сортировка (introsort): быстрая сортировка с медианой из трёх,
+ * сортировка вставками на коротких участках и переход на сортировку кучей
+ * ({@link Sample#heapSort(int[], int, int)}), когда глубина рекурсии превышает 2·log n.
+ * На случайных данных работает как быстрая сортировка, а худший случай
+ * остаётся O(n log n).
+ */
+public class IntroSort implements SortStrategy {
+    /**
+     * Порог по умолчанию: участки не длиннее него сортируются вставками.
+     */
+    public static final int DEFAULT_INSERTION_THRESHOLD = 16;
+
+    private final Sample sample = new Sample();
+    private final int insertionThreshold;
+
+    /**
+     * Создаёт сортировщик с порогом сортировки вставками по умолчанию.
+     */
+    public IntroSort() {
+        this(DEFAULT_INSERTION_THRESHOLD);
+    }
+
+    /**
+     * Создаёт сортировщик с заданным порогом сортировки вставками.
+     *
+     * @param insertionThreshold максимальная длина участка, сортируемого вставками
+     * @throws IllegalArgumentException если порог меньше 2 (медиане из трёх нужно 3 элемента)
+     */
+    public IntroSort(int insertionThreshold) {
+        if (insertionThreshold < 2) {
+            throw new IllegalArgumentException(
+                    "Insertion threshold must be at least 2: " + insertionThreshold);
+        }
+        this.insertionThreshold = insertionThreshold;
+    }
+
+    /**
+     * Возвращает порог сортировки вставками.
+     *
+     * @return максимальная длина участка, сортируемого вставками
+     */
+    public int getInsertionThreshold() {
+        return insertionThreshold;
+    }
+
+    @Override
+    public void sort(int[] array, int from, int to) {
+        IntArrays.checkRange(array.length, from, to);
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        sort(array, from, to, 2 * (31 - Integer.numberOfLeadingZeros(n)));
+    }
+
+    /**
+     * Сортирует участок с явно заданным пределом глубины рекурсии.
+     * После исчерпания предела участок досортировывается кучей.
+     *
+     * @param array массив для сортировки
+     * @param from индекс первого элемента участка (включительно)
+     * @param to индекс последнего элемента участка (не включительно)
+     * @param depthLimit допустимое число уровней быстрой сортировки
+     */
+    void sort(int[] array, int from, int to, int depthLimit) {
+        introSort(array, from, to, depthLimit);
+    }
+
+    private void introSort(int[] array, int lo, int hi, int depthLimit) {
+        while (hi - lo > insertionThreshold) {
+            // Слишком глубокая рекурсия: данные неудачны для быстрой сортировки
+            if (depthLimit == 0) {
+                sample.heapSort(array, lo, hi);
+                return;
+            }
+            depthLimit--;
+
+            // Рекурсия идёт в меньшую часть, большая обрабатывается в цикле
+            int split = partition(array, lo, hi);
+            if (split - lo < hi - split) {
+                introSort(array, lo, split, depthLimit);
+                lo = split;
+            } else {
+                introSort(array, split, hi, depthLimit);
+                hi = split;
+            }
+        }
+        IntArrays.insertionSort(array, lo, hi);
+    }
+
+    /**
+     * Разбиение Хоара с опорным элементом — медианой первого, среднего и последнего.
+     * Упорядоченные крайние элементы служат барьерами, поэтому индексы не выходят
+     * за участок, а обе части получаются непустыми.
+     *
+     * @return индекс split: [lo, split) не больше опорного, [split, hi) не меньше
+     */
+    private int partition(int[] array, int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        int last = hi - 1;
+        if (array[mid] < array[lo]) {
+            swap(array, mid, lo);
+        }
+        if (array[last] < array[mid]) {
+            swap(array, last, mid);
+            if (array[mid] < array[lo]) {
+                swap(array, mid, lo);
+            }
+        }
+        int pivot = array[mid];
+
+        int i = lo - 1;
+        int j = hi;
+        while (true) {
+            do {
+                i++;
+            } while (array[i] < pivot);
+            do {
+                j--;
+            } while (array[j] > pivot);
+            if (i >= j) {
+                return j + 1;
+            }
+            swap(array, i, j);
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
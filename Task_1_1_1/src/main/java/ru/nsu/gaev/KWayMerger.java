@@ -0,0 +1,276 @@
+package ru.nsu.gaev;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Ленивое k-путевое слияние отсортированных источников чисел int.
+ *
+ * <p>Источниками могут быть отсортированные массивы (например, результаты
+ * {@link Sample#heapSort(int[])}) или двоичные файлы отсортированных чисел
+ * в порядке байтов big-endian. Над источниками строится минимальная куча курсоров
+ * (в куче лежат только номера курсоров), и каждое {@link #nextInt()} выдаёт
+ * наименьшее из текущих значений за O(log k) сравнений. Результат не собирается
+ * в общий массив: числа читаются по одному, для файла в памяти держится один буфер.
+ *
+ * <p>Слияние файлов нужно закрыть через {@link #close()}; ошибки чтения файла
+ * при обходе выбрасываются как {@link UncheckedIOException}.
+ */
+public final class KWayMerger implements PrimitiveIterator.OfInt, Closeable {
+    private final Cursor[] cursors;
+    private final int[] heap;
+    private int size;
+
+    private KWayMerger(Cursor[] cursors) {
+        this.cursors = cursors;
+        this.heap = new int[cursors.length];
+        for (int i = 0; i < cursors.length; i++) {
+            if (advance(cursors[i])) {
+                heap[size++] = i;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Создаёт слияние отсортированных массивов. Массивы не копируются
+     * и не должны меняться во время обхода.
+     *
+     * @param sources отсортированные по возрастанию массивы
+     * @return итератор по всем числам источников в порядке возрастания
+     */
+    public static KWayMerger ofArrays(int[]... sources) {
+        Cursor[] cursors = new Cursor[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            cursors[i] = new ArrayCursor(sources[i]);
+        }
+        return new KWayMerger(cursors);
+    }
+
+    /**
+     * Создаёт слияние отсортированных массивов из списка.
+     *
+     * @param sources отсортированные по возрастанию массивы
+     * @return итератор по всем числам источников в порядке возрастания
+     */
+    public static KWayMerger ofArrays(List<int[]> sources) {
+        return ofArrays(sources.toArray(new int[0][]));
+    }
+
+    /**
+     * Создаёт слияние отсортированных двоичных файлов.
+     *
+     * @param files файлы чисел int в порядке big-endian, отсортированные по возрастанию
+     * @return итератор, который нужно закрыть после использования
+     * @throws IOException если какой-либо файл не удалось открыть или прочитать,
+     *                     в том числе если его размер не кратен 4 байтам
+     */
+    public static KWayMerger ofFiles(List<Path> files) throws IOException {
+        Cursor[] cursors = new Cursor[files.size()];
+        try {
+            for (int i = 0; i < cursors.length; i++) {
+                cursors[i] = new FileCursor(files.get(i));
+            }
+            return new KWayMerger(cursors);
+        } catch (IOException | UncheckedIOException e) {
+            // Ошибка чтения первого числа приходит из конструктора как UncheckedIOException
+            IOException error = e instanceof UncheckedIOException unchecked
+                    ? unchecked.getCause() : (IOException) e;
+            IOException closeError = closeAll(cursors);
+            if (closeError != null) {
+                error.addSuppressed(closeError);
+            }
+            throw error;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return size > 0;
+    }
+
+    /**
+     * Возвращает следующее по возрастанию число.
+     *
+     * @return наименьшее из ещё не выданных чисел
+     * @throws NoSuchElementException если все источники исчерпаны
+     * @throws UncheckedIOException при ошибке чтения файла, в том числе если в конце файла
+     *                              остался неполный int
+     */
+    @Override
+    public int nextInt() {
+        if (size == 0) {
+            throw new NoSuchElementException("All sources are exhausted");
+        }
+        Cursor top = cursors[heap[0]];
+        int value = top.head;
+        if (!advance(top)) {
+            heap[0] = heap[--size];
+        }
+        siftDown(0);
+        return value;
+    }
+
+    /**
+     * Закрывает файлы источников. Для массивов ничего не делает.
+     *
+     * @throws IOException если какой-либо файл не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        size = 0;
+        IOException error = closeAll(cursors);
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Закрывает все открытые курсоры.
+     *
+     * @return первая ошибка закрытия (остальные добавлены к ней как подавленные) или null
+     */
+    private static IOException closeAll(Cursor[] cursors) {
+        IOException error = null;
+        for (Cursor cursor : cursors) {
+            if (cursor == null) {
+                continue;
+            }
+            try {
+                cursor.close();
+            } catch (IOException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        return error;
+    }
+
+    private static boolean advance(Cursor cursor) {
+        try {
+            return cursor.advance();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && cursors[heap[left]].head < cursors[heap[smallest]].head) {
+                smallest = left;
+            }
+            if (right < size && cursors[heap[right]].head < cursors[heap[smallest]].head) {
+                smallest = right;
+            }
+            if (smallest == i) {
+                return;
+            }
+            int swap = heap[i];
+            heap[i] = heap[smallest];
+            heap[smallest] = swap;
+            i = smallest;
+        }
+    }
+
+    /**
+     * Курсор по источнику: текущее значение и переход к следующему.
+     */
+    private abstract static class Cursor {
+        int head;
+
+        /**
+         * Переходит к следующему числу и кладёт его в head.
+         *
+         * @return false, если источник закончился
+         */
+        abstract boolean advance() throws IOException;
+
+        void close() throws IOException {
+        }
+    }
+
+    private static final class ArrayCursor extends Cursor {
+        private final int[] array;
+        private int position;
+
+        ArrayCursor(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        boolean advance() {
+            if (position == array.length) {
+                return false;
+            }
+            head = array[position++];
+            return true;
+        }
+    }
+
+    /**
+     * Курсор по отсортированному файлу с одним буфером чтения.
+     */
+    private static final class FileCursor extends Cursor {
+        private final Path path;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(ExternalHeapSort.BUFFER_SIZE);
+
+        FileCursor(Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            buffer.limit(0);
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                // Буфер дочитывается целиком, а его размер кратен 4, поэтому неполное
+                // число может остаться только в конце файла
+                checkNoTail();
+                buffer.clear();
+                int read = 0;
+                while (buffer.hasRemaining() && read >= 0) {
+                    read = channel.read(buffer);
+                }
+                buffer.flip();
+                if (buffer.remaining() < Integer.BYTES) {
+                    checkNoTail();
+                    return false;
+                }
+            }
+            head = buffer.getInt();
+            return true;
+        }
+
+        /**
+         * Проверяет, что в буфере не остался хвост в 1–3 байта.
+         */
+        private void checkNoTail() throws IOException {
+            if (buffer.hasRemaining()) {
+                throw new IOException("File size is not a multiple of " + Integer.BYTES
+                        + ": " + path);
+            }
+        }
+
+        @Override
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+}
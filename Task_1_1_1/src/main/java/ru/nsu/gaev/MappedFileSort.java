@@ -0,0 +1,168 @@
+package ru.nsu.gaev;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Сортировка двоичного файла int на месте через отображение в память.
+ *
+ * <p>Файл отображается в режиме чтения-записи, и {@link Sample#heapSort(java.nio.IntBuffer)}
+ * переставляет числа прямо в отображённых страницах, без копирования в массив
+ * в куче Java. После сортировки изменения принудительно сбрасываются на диск.
+ * Порядок байтов задаётся в конструкторе.
+ *
+ * <p>На JDK 17 одно отображение ограничено 2 ГиБ, поэтому файл, не помещающийся
+ * в одно окно, отображается несколькими окнами по 1 ГиБ, как в {@link ParallelTopK},
+ * и сортируется кучей с индексами long: старшие биты индекса выбирают окно,
+ * младшие — позицию в нём.
+ */
+public class MappedFileSort {
+    /**
+     * Двоичный логарифм числа int в одном окне (1 ГиБ).
+     */
+    private static final int WINDOW_SHIFT = 28;
+
+    private final Sample sample = new Sample();
+    private final ByteOrder order;
+    private final int windowShift;
+    private final long windowMask;
+
+    /**
+     * Создаёт сортировщик файлов с порядком байтов big-endian, как у {@link ExternalHeapSort}.
+     */
+    public MappedFileSort() {
+        this(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Создаёт сортировщик файлов с заданным порядком байтов.
+     *
+     * @param order порядок байтов чисел в файле
+     */
+    public MappedFileSort(ByteOrder order) {
+        this(order, WINDOW_SHIFT);
+    }
+
+    /**
+     * Создаёт сортировщик с заданным размером окна; маленькие окна нужны тестам,
+     * чтобы проверить сортировку через несколько окон без файлов в гигабайты.
+     *
+     * @param order порядок байтов чисел в файле
+     * @param windowShift двоичный логарифм числа int в одном окне: от 1 до 28
+     * @throws IllegalArgumentException если размер окна вне диапазона
+     */
+    MappedFileSort(ByteOrder order, int windowShift) {
+        if (windowShift < 1 || windowShift > WINDOW_SHIFT) {
+            throw new IllegalArgumentException("Window shift must be in [1, " + WINDOW_SHIFT
+                    + "]: " + windowShift);
+        }
+        this.order = order;
+        this.windowShift = windowShift;
+        this.windowMask = (1L << windowShift) - 1;
+    }
+
+    /**
+     * Возвращает порядок байтов чисел в файле.
+     *
+     * @return порядок байтов
+     */
+    public ByteOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Сортирует файл на месте.
+     *
+     * @param file двоичный файл чисел int
+     * @throws IOException при ошибке ввода-вывода
+     * @throws IllegalArgumentException если размер файла не кратен 4 байтам
+     */
+    public void sort(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException(
+                        "File size is not a multiple of " + Integer.BYTES + ": " + size);
+            }
+            long count = size / Integer.BYTES;
+            if (count <= 1L << windowShift) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                sample.heapSort(mapped.order(order).asIntBuffer());
+                mapped.force();
+                return;
+            }
+
+            int windowCount = (int) ((count + windowMask) >>> windowShift);
+            MappedByteBuffer[] mapped = new MappedByteBuffer[windowCount];
+            IntBuffer[] windows = new IntBuffer[windowCount];
+            for (int w = 0; w < windowCount; w++) {
+                long start = (long) w << windowShift;
+                long length = Math.min(windowMask + 1, count - start);
+                mapped[w] = channel.map(FileChannel.MapMode.READ_WRITE,
+                        start * Integer.BYTES, length * Integer.BYTES);
+                windows[w] = mapped[w].order(order).asIntBuffer();
+            }
+            heapSort(windows, count);
+            for (MappedByteBuffer window : mapped) {
+                window.force();
+            }
+        }
+    }
+
+    /**
+     * Сортировка кучей n чисел, разложенных по окнам подряд.
+     */
+    private void heapSort(IntBuffer[] windows, long n) {
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(windows, n, i);
+        }
+        for (long i = n - 1; i > 0; i--) {
+            int top = get(windows, 0);
+            put(windows, 0, get(windows, i));
+            put(windows, i, top);
+            siftDown(windows, i, 0);
+        }
+    }
+
+    /**
+     * Просеивание вниз в куче из n чисел, как в {@link Sample#heapSort(IntBuffer)},
+     * но с индексами long.
+     */
+    private void siftDown(IntBuffer[] windows, long n, long i) {
+        int value = get(windows, i);
+        while (true) {
+            long child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            int childValue = get(windows, child);
+            if (child + 1 < n) {
+                int right = get(windows, child + 1);
+                if (right > childValue) {
+                    child++;
+                    childValue = right;
+                }
+            }
+            if (value >= childValue) {
+                break;
+            }
+            put(windows, i, childValue);
+            i = child;
+        }
+        put(windows, i, value);
+    }
+
+    private int get(IntBuffer[] windows, long index) {
+        return windows[(int) (index >>> windowShift)].get((int) (index & windowMask));
+    }
+
+    private void put(IntBuffer[] windows, long index, int value) {
+        windows[(int) (index >>> windowShift)].put((int) (index & windowMask), value);
+    }
+}
@@ -0,0 +1,163 @@
+package ru.nsu.gaev;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Параллельная сортировка массива на пуле {@link ForkJoinPool}.
+ * Массив делится пополам до тех пор, пока участок не станет меньше порога,
+ * участки сортируются кучей ({@link Sample#heapSort(int[])}), а затем
+ * отсортированные половины параллельно сливаются.
+ */
+public class ParallelHeapSort {
+    /**
+     * Порог по умолчанию: участки не длиннее него сортируются последовательно.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private final Sample sample = new Sample();
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Создаёт сортировщик на общем пуле с порогом по умолчанию.
+     */
+    public ParallelHeapSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Создаёт сортировщик на общем пуле с заданным порогом.
+     *
+     * @param threshold максимальная длина участка, сортируемого последовательно
+     */
+    public ParallelHeapSort(int threshold) {
+        this(ForkJoinPool.commonPool(), threshold);
+    }
+
+    /**
+     * Создаёт сортировщик на заданном пуле с заданным порогом.
+     *
+     * @param pool пул, на котором выполняются задачи сортировки
+     * @param threshold максимальная длина участка, сортируемого последовательно
+     * @throws IllegalArgumentException если порог меньше 1
+     */
+    public ParallelHeapSort(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Возвращает порог последовательной сортировки.
+     *
+     * @return максимальная длина участка, сортируемого без разбиения
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Параллельная сортировка массива. Результат совпадает с {@link Sample#heapSort(int[])}.
+     *
+     * @param array массив для сортировки
+     * @return отсортированный массив (тот же объект)
+     */
+    public int[] sort(int[] array) {
+        if (array.length <= threshold) {
+            return sample.heapSort(array);
+        }
+        int[] buffer = new int[array.length];
+        pool.invoke(new SortTask(array, buffer, 0, array.length, false));
+        return array;
+    }
+
+    /**
+     * Задача сортировки участка [from, to). Результат кладётся в buffer,
+     * если intoBuffer, иначе в array; дети пишут в противоположный массив,
+     * поэтому лишнее копирование нужно только на листьях.
+     */
+    private final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final boolean intoBuffer;
+
+        SortTask(int[] array, int[] buffer, int from, int to, boolean intoBuffer) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.intoBuffer = intoBuffer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                sample.heapSort(array, from, to);
+                if (intoBuffer) {
+                    System.arraycopy(array, from, buffer, from, to - from);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(array, buffer, from, mid, !intoBuffer),
+                    new SortTask(array, buffer, mid, to, !intoBuffer));
+
+            int[] src = intoBuffer ? array : buffer;
+            int[] dst = intoBuffer ? buffer : array;
+            new MergeTask(src, from, mid, mid, to, dst, from).compute();
+        }
+    }
+
+    /**
+     * Задача параллельного слияния двух отсортированных участков src в dst.
+     * Длинный участок делится пополам, точка раздела второго ищется бинарным поиском.
+     */
+    private final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int out;
+
+        MergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+            if (len1 < len2) {
+                new MergeTask(src, lo2, hi2, lo1, hi1, dst, out).compute();
+                return;
+            }
+            // При len1 < 2 разбиение длинного участка пополам ничего не уменьшит
+            if (len1 < 2 || len1 + len2 <= threshold) {
+                IntArrays.merge(src, lo1, hi1, lo2, hi2, dst, out);
+                return;
+            }
+            int mid1 = (lo1 + hi1) >>> 1;
+            int mid2 = IntArrays.lowerBound(src, lo2, hi2, src[mid1]);
+            int outMid = out + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new MergeTask(src, lo1, mid1, lo2, mid2, dst, out),
+                    new MergeTask(src, mid1, hi1, mid2, hi2, dst, outMid));
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package ru.nsu.gaev;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Параллельный поиск k наибольших элементов в данных, разбитых на сегменты.
+ *
+ * <p>Данные (несколько массивов int или двоичный файл, отображённый в память)
+ * делятся на куски не длиннее {@code threshold}. Каждая задача {@link ForkJoinPool}
+ * просматривает свой кусок со своей ограниченной минимальной кучей ({@link IntHeap})
+ * из k элементов, поэтому потоки не делят общего состояния. Кучи соседних задач
+ * затем попарно сливаются: меньшая выливается в большую с тем же ограничением k.
+ * Результат совпадает с {@link Sample#topK(int[], int)} для склеенных данных.
+ */
+public class ParallelTopK {
+    /**
+     * Длина куска по умолчанию.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /**
+     * Наибольшее число int в одном отображённом окне файла (1 ГиБ).
+     */
+    private static final int WINDOW = 1 << 28;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Создаёт поиск на общем пуле с длиной куска по умолчанию.
+     */
+    public ParallelTopK() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Создаёт поиск на заданном пуле с заданной длиной куска.
+     *
+     * @param pool пул, на котором выполняются задачи
+     * @param threshold наибольшая длина куска, просматриваемого одной задачей
+     * @throws IllegalArgumentException если длина куска меньше 1
+     */
+    public ParallelTopK(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Возвращает длину куска.
+     *
+     * @return наибольшая длина куска, просматриваемого одной задачей
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Возвращает k наибольших элементов массива в порядке убывания.
+     *
+     * @param array исходный массив (не изменяется)
+     * @param k количество элементов
+     * @return новый массив из min(k, n) наибольших элементов по убыванию
+     * @throws IllegalArgumentException если k &lt; 0
+     */
+    public int[] topK(int[] array, int k) {
+        return topK(new int[][]{array}, k);
+    }
+
+    /**
+     * Возвращает k наибольших элементов всех сегментов в порядке убывания.
+     *
+     * @param segments массивы с данными (не изменяются)
+     * @param k количество элементов
+     * @return новый массив из min(k, n) наибольших элементов по убыванию
+     * @throws IllegalArgumentException если k &lt; 0
+     */
+    public int[] topK(int[][] segments, int k) {
+        checkK(k);
+        List<Chunk> chunks = new ArrayList<>();
+        for (int[] segment : segments) {
+            for (int from = 0; from < segment.length; from += threshold) {
+                chunks.add(new ArrayChunk(segment, from, Math.min(from + threshold,
+                        segment.length)));
+            }
+        }
+        return select(chunks, k);
+    }
+
+    /**
+     * Возвращает k наибольших чисел двоичного файла в порядке убывания.
+     * Файл отображается в память окнами по 1 ГиБ, поэтому может быть больше 2 ГиБ.
+     *
+     * @param file файл чисел int в порядке байтов big-endian
+     * @param k количество элементов
+     * @return новый массив из min(k, n) наибольших чисел по убыванию
+     * @throws IOException при ошибке ввода-вывода
+     * @throws IllegalArgumentException если k &lt; 0 или размер файла не кратен 4 байтам
+     */
+    public int[] topK(Path file, int k) throws IOException {
+        checkK(k);
+        List<Chunk> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException(
+                        "File size is not a multiple of " + Integer.BYTES + ": " + size);
+            }
+            long count = size / Integer.BYTES;
+            for (long start = 0; start < count; start += WINDOW) {
+                int length = (int) Math.min(WINDOW, count - start);
+                // Отображение остаётся действительным и после закрытия канала
+                IntBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        start * Integer.BYTES, (long) length * Integer.BYTES).asIntBuffer();
+                for (int from = 0; from < length; from += threshold) {
+                    chunks.add(new BufferChunk(window, from, Math.min(from + threshold, length)));
+                }
+            }
+        }
+        return select(chunks, k);
+    }
+
+    private static void checkK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be non-negative: " + k);
+        }
+    }
+
+    private int[] select(List<Chunk> chunks, int k) {
+        if (k == 0 || chunks.isEmpty()) {
+            return new int[0];
+        }
+        IntHeap heap = pool.invoke(new SelectTask(chunks, 0, chunks.size(), k));
+
+        // Минимальная куча выдаёт по возрастанию, заполняем результат с конца
+        int[] result = new int[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.pop();
+        }
+        return result;
+    }
+
+    /**
+     * Добавляет значение в ограниченную кучу из k наибольших.
+     */
+    private static void offer(IntHeap heap, int k, int value) {
+        if (heap.size() < k) {
+            heap.push(value);
+        } else if (value > heap.peek()) {
+            heap.replaceTop(value);
+        }
+    }
+
+    /**
+     * Кусок данных, который просматривает одна задача.
+     */
+    private interface Chunk {
+        /**
+         * Добавляет все значения куска в ограниченную кучу.
+         */
+        void offerAll(IntHeap heap, int k);
+    }
+
+    private static final class ArrayChunk implements Chunk {
+        private final int[] array;
+        private final int from;
+        private final int to;
+
+        ArrayChunk(int[] array, int from, int to) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public void offerAll(IntHeap heap, int k) {
+            for (int i = from; i < to; i++) {
+                offer(heap, k, array[i]);
+            }
+        }
+    }
+
+    private static final class BufferChunk implements Chunk {
+        private final IntBuffer buffer;
+        private final int from;
+        private final int to;
+
+        BufferChunk(IntBuffer buffer, int from, int to) {
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public void offerAll(IntHeap heap, int k) {
+            for (int i = from; i < to; i++) {
+                offer(heap, k, buffer.get(i));
+            }
+        }
+    }
+
+    /**
+     * Задача выбора по кускам [lo, hi): лист просматривает один кусок своей кучей,
+     * внутренний узел сливает кучи двух половин.
+     */
+    private static final class SelectTask extends RecursiveTask<IntHeap> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Chunk> chunks;
+        private final int lo;
+        private final int hi;
+        private final int k;
+
+        SelectTask(List<Chunk> chunks, int lo, int hi, int k) {
+            this.chunks = chunks;
+            this.lo = lo;
+            this.hi = hi;
+            this.k = k;
+        }
+
+        @Override
+        protected IntHeap compute() {
+            if (hi - lo == 1) {
+                IntHeap heap = new IntHeap(IntHeap.Order.MIN, 0);
+                chunks.get(lo).offerAll(heap, k);
+                return heap;
+            }
+            int mid = (lo + hi) >>> 1;
+            SelectTask right = new SelectTask(chunks, mid, hi, k);
+            right.fork();
+            IntHeap left = new SelectTask(chunks, lo, mid, k).compute();
+            IntHeap other = right.join();
+
+            IntHeap into = left.size() >= other.size() ? left : other;
+            IntHeap from = into == left ? other : left;
+            while (!from.isEmpty()) {
+                offer(into, k, from.pop());
+            }
+            return into;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package ru.nsu.gaev;
+
+/**
+ * Применение перестановки (например, результата {@link Sample#argSort(int[])})
+ * к столбцам данных на месте.
+ *
+ * <p>Перед перестановкой проверяется, что массив действительно перестановка нужной
+ * длины (каждый индекс встречается ровно один раз), поэтому при ошибке столбец
+ * остаётся нетронутым. Затем перестановка обходится по циклам одним общим
+ * методом, а перегрузки для разных типов столбцов задают только обмен двух
+ * элементов. Пройденные позиции отмечаются в битовом множестве из n / 8 байт,
+ * которое заодно служит проверке, а сама перестановка не изменяется, так что её
+ * можно применять к нескольким столбцам, в том числе из разных потоков одновременно.
+ */
+public final class Permutations {
+
+    private Permutations() {
+    }
+
+    /**
+     * Переставляет столбец int на месте: column[i] становится прежним column[permutation[i]].
+     *
+     * @param permutation перестановка (не изменяется)
+     * @param column столбец для перестановки
+     * @return тот же столбец
+     * @throws IllegalArgumentException если длины не совпадают или permutation
+     *                                  не является перестановкой
+     */
+    public static int[] apply(int[] permutation, int[] column) {
+        walkCycles(permutation, column.length, (i, j) -> {
+            int swap = column[i];
+            column[i] = column[j];
+            column[j] = swap;
+        });
+        return column;
+    }
+
+    /**
+     * Переставляет столбец long на месте: column[i] становится прежним column[permutation[i]].
+     *
+     * @param permutation перестановка (не изменяется)
+     * @param column столбец для перестановки
+     * @return тот же столбец
+     * @throws IllegalArgumentException если длины не совпадают или permutation
+     *                                  не является перестановкой
+     */
+    public static long[] apply(int[] permutation, long[] column) {
+        walkCycles(permutation, column.length, (i, j) -> {
+            long swap = column[i];
+            column[i] = column[j];
+            column[j] = swap;
+        });
+        return column;
+    }
+
+    /**
+     * Переставляет столбец double на месте: column[i] становится прежним column[permutation[i]].
+     *
+     * @param permutation перестановка (не изменяется)
+     * @param column столбец для перестановки
+     * @return тот же столбец
+     * @throws IllegalArgumentException если длины не совпадают или permutation
+     *                                  не является перестановкой
+     */
+    public static double[] apply(int[] permutation, double[] column) {
+        walkCycles(permutation, column.length, (i, j) -> {
+            double swap = column[i];
+            column[i] = column[j];
+            column[j] = swap;
+        });
+        return column;
+    }
+
+    /**
+     * Переставляет столбец float на месте: column[i] становится прежним column[permutation[i]].
+     *
+     * @param permutation перестановка (не изменяется)
+     * @param column столбец для перестановки
+     * @return тот же столбец
+     * @throws IllegalArgumentException если длины не совпадают или permutation
+     *                                  не является перестановкой
+     */
+    public static float[] apply(int[] permutation, float[] column) {
+        walkCycles(permutation, column.length, (i, j) -> {
+            float swap = column[i];
+            column[i] = column[j];
+            column[j] = swap;
+        });
+        return column;
+    }
+
+    /**
+     * Переставляет столбец short на месте: column[i] становится прежним column[permutation[i]].
+     *
+     * @param permutation перестановка (не изменяется)
+     * @param column столбец для перестановки
+     * @return тот же столбец
+     * @throws IllegalArgumentException если длины не совпадают или permutation
+     *                                  не является перестановкой
+     */
+    public static short[] apply(int[] permutation, short[] column) {
+        walkCycles(permutation, column.length, (i, j) -> {
+            short swap = column[i];
+            column[i] = column[j];
+            column[j] = swap;
+        });
+        return column;
+    }
+
+    /**
+     * Переставляет столбец char на месте: column[i] становится прежним column[permutation[i]].
+     *
+     * @param permutation перестановка (не изменяется)
+     * @param column столбец для перестановки
+     * @return тот же столбец
+     * @throws IllegalArgumentException если длины не совпадают или permutation
+     *                                  не является перестановкой
+     */
+    public static char[] apply(int[] permutation, char[] column) {
+        walkCycles(permutation, column.length, (i, j) -> {
+            char swap = column[i];
+            column[i] = column[j];
+            column[j] = swap;
+        });
+        return column;
+    }
+
+    /**
+     * Переставляет столбец byte на месте: column[i] становится прежним column[permutation[i]].
+     *
+     * @param permutation перестановка (не изменяется)
+     * @param column столбец для перестановки
+     * @return тот же столбец
+     * @throws IllegalArgumentException если длины не совпадают или permutation
+     *                                  не является перестановкой
+     */
+    public static byte[] apply(int[] permutation, byte[] column) {
+        walkCycles(permutation, column.length, (i, j) -> {
+            byte swap = column[i];
+            column[i] = column[j];
+            column[j] = swap;
+        });
+        return column;
+    }
+
+    /**
+     * Переставляет столбец объектов на месте: column[i] становится прежним column[permutation[i]].
+     *
+     * @param permutation перестановка (не изменяется)
+     * @param column столбец для перестановки
+     * @param <T> тип элементов столбца
+     * @return тот же столбец
+     * @throws IllegalArgumentException если длины не совпадают или permutation
+     *                                  не является перестановкой
+     */
+    public static <T> T[] apply(int[] permutation, T[] column) {
+        walkCycles(permutation, column.length, (i, j) -> {
+            T swap = column[i];
+            column[i] = column[j];
+            column[j] = swap;
+        });
+        return column;
+    }
+
+    /**
+     * Обмен двух элементов столбца.
+     */
+    @FunctionalInterface
+    private interface Swap {
+        void swap(int i, int j);
+    }
+
+    /**
+     * Обходит перестановку по циклам. Цикл i → permutation[i] → ... → i проходится
+     * обменами соседних по циклу позиций: после обмена (j, permutation[j]) позиция j
+     * получает своё окончательное значение, а прежнее значение позиции i едет дальше
+     * по циклу и встаёт на место последним обменом.
+     */
+    private static void walkCycles(int[] permutation, int length, Swap swap) {
+        long[] pending = check(permutation, length);
+        for (int i = 0; i < length; i++) {
+            if ((pending[i >>> 6] & 1L << i) == 0) {
+                continue;
+            }
+            pending[i >>> 6] &= ~(1L << i);
+            int j = i;
+            int k = permutation[j];
+            while (k != i) {
+                swap.swap(j, k);
+                pending[k >>> 6] &= ~(1L << k);
+                j = k;
+                k = permutation[j];
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что permutation — перестановка чисел 0..length - 1.
+     *
+     * @return битовое множество, в котором отмечены все позиции
+     */
+    private static long[] check(int[] permutation, int length) {
+        if (permutation.length != length) {
+            throw new IllegalArgumentException("Permutation length " + permutation.length
+                    + " does not match column length " + length);
+        }
+        long[] seen = new long[(length + 63) >>> 6];
+        for (int i = 0; i < length; i++) {
+            int index = permutation[i];
+            if (index < 0 || index >= length || (seen[index >>> 6] & 1L << index) != 0) {
+                throw new IllegalArgumentException("Not a permutation: " + index
+                        + " at position " + i);
+            }
+            seen[index >>> 6] |= 1L << index;
+        }
+        return seen;
+    }
+}
@@ -0,0 +1,104 @@
+package ru.nsu.gaev;
+
+/**
+ * Поразрядная сортировка LSD по байтам для массивов int.
+ *
+ * <p>Сортируется не само значение, а ключ {@code x - min}, который для любого
+ * диапазона значений помещается в 32 бита без знака. Поэтому отрицательные числа
+ * обрабатываются корректно, а число проходов равно числу байтов, нужных для
+ * разности max - min: при узком диапазоне выполняется один-два прохода вместо четырёх.
+ * Гистограммы всех проходов считаются за одно чтение массива, а проход, в котором
+ * у всех элементов одинаковый байт, пропускается. Требует буфер длиной n.
+ */
+public class RadixSort implements SortStrategy {
+    private static final int RADIX = 256;
+
+    @Override
+    public void sort(int[] array, int from, int to) {
+        IntArrays.checkRange(array.length, from, to);
+        if (to - from < 2) {
+            return;
+        }
+        int min = array[from];
+        int max = array[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, array[i]);
+            max = Math.max(max, array[i]);
+        }
+        sort(array, from, to, min, max);
+    }
+
+    /**
+     * Возвращает число байтовых проходов для диапазона значений [min, max].
+     *
+     * @param min наименьшее значение
+     * @param max наибольшее значение
+     * @return от 0 (все значения равны) до 4
+     */
+    static int passes(int min, int max) {
+        long range = (long) max - min;
+        return (Long.SIZE - Long.numberOfLeadingZeros(range) + 7) / 8;
+    }
+
+    /**
+     * Сортирует участок, у которого уже известны наименьшее и наибольшее значения.
+     *
+     * @param array массив для сортировки
+     * @param from начало участка
+     * @param to конец участка (не включительно)
+     * @param min наименьшее значение на участке
+     * @param max наибольшее значение на участке
+     */
+    void sort(int[] array, int from, int to, int min, int max) {
+        int n = to - from;
+        int passes = passes(min, max);
+        if (passes == 0) {
+            return;
+        }
+
+        // Гистограммы всех проходов за одно чтение
+        int[] counts = new int[passes * RADIX];
+        for (int i = from; i < to; i++) {
+            int key = array[i] - min;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass * RADIX + ((key >>> (8 * pass)) & 0xFF)]++;
+            }
+        }
+
+        int[] src = array;
+        int srcFrom = from;
+        int[] dst = new int[n];
+        int dstFrom = 0;
+        for (int pass = 0; pass < passes; pass++) {
+            int base = pass * RADIX;
+            int shift = 8 * pass;
+            // Все элементы имеют одинаковый байт — проход ничего не меняет
+            if (counts[base + (((src[srcFrom] - min) >>> shift) & 0xFF)] == n) {
+                continue;
+            }
+
+            // Превращаем счётчики в позиции начала каждой корзины
+            int offset = dstFrom;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = counts[base + digit];
+                counts[base + digit] = offset;
+                offset += count;
+            }
+            for (int i = srcFrom; i < srcFrom + n; i++) {
+                int value = src[i];
+                dst[counts[base + (((value - min) >>> shift) & 0xFF)]++] = value;
+            }
+
+            int[] swapArray = src;
+            src = dst;
+            dst = swapArray;
+            int swapFrom = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = swapFrom;
+        }
+
+        if (src != array) {
+            System.arraycopy(src, srcFrom, array, from, n);
+        }
+    }
+}
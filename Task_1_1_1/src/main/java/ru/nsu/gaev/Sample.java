@@ -1,5 +1,12 @@
 package ru.nsu.gaev;
 
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 /**
  * Класс, содержащий метод сортировки массива с помощью кучи и точку входа для приложения.
  */
@@ -21,58 +28,794 @@ public class Sample {
      * @return отсортированный массив
      */
     public int[] heapSort(int[] array) {
+        return heapSort(array, 0, array.length);
+    }
+
+    /**
+     * Сортировка кучей участка массива [from, to).
+     * Элементы вне участка не затрагиваются.
+     *
+     * @param array массив для сортировки
+     * @param from индекс первого элемента участка (включительно)
+     * @param to индекс последнего элемента участка (не включительно)
+     * @return массив с отсортированным участком
+     * @throws IllegalArgumentException если from &gt; to
+     * @throws ArrayIndexOutOfBoundsException если from &lt; 0 или to &gt; array.length
+     */
+    public int[] heapSort(int[] array, int from, int to) {
+        IntArrays.checkRange(array.length, from, to);
         // Реализация алгоритма сортировки кучей (heapsort)
-        int n = array.length;
+        int n = to - from;
 
         // Строим кучу (heap)
         for (int i = n / 2 - 1; i >= 0; i--) {
-            heapify(array, n, i);
+            heapify(array, from, n, i);
         }
 
         // Извлекаем элементы из кучи
         for (int i = n - 1; i >= 0; i--) {
             // Перемещаем текущий корень в конец
-            int temp = array[0];
+            int temp = array[from];
+            array[from] = array[from + i];
+            array[from + i] = temp;
+
+            // Вызываем heapify на уменьшенной куче
+            heapify(array, from, i, 0);
+        }
+        return array;
+    }
+
+    /**
+     * Сортировка индексов (argsort): возвращает перестановку, упорядочивающую keys,
+     * не перемещая сами ключи. Порядок равных ключей сохраняется (сравнение идёт
+     * по паре ключ–индекс), поэтому результат детерминирован.
+     * Переставить по результату другие столбцы можно через {@link Permutations}.
+     *
+     * @param keys столбец ключей (не изменяется)
+     * @return массив индексов p, для которого keys[p[0]] &lt;= keys[p[1]] &lt;= ...
+     */
+    public int[] argSort(int[] keys) {
+        int n = keys.length;
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapifyIndex(keys, index, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = index[0];
+            index[0] = index[i];
+            index[i] = temp;
+            heapifyIndex(keys, index, i, 0);
+        }
+        return index;
+    }
+
+    /**
+     * Сортировка индексов по ключам long; то же, что {@link #argSort(int[])}.
+     *
+     * @param keys столбец ключей (не изменяется)
+     * @return массив индексов p, для которого keys[p[0]] &lt;= keys[p[1]] &lt;= ...
+     */
+    public int[] argSort(long[] keys) {
+        int n = keys.length;
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapifyIndex(keys, index, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = index[0];
+            index[0] = index[i];
+            index[i] = temp;
+            heapifyIndex(keys, index, i, 0);
+        }
+        return index;
+    }
+
+    /**
+     * Устойчивая сортировка массива объектов по целочисленному ключу
+     * (преобразование Шварца). Ключи извлекаются ровно n раз в массив int,
+     * сортируется перестановка индексов ({@link #argSort(int[])}), и массив
+     * переставляется по ней на месте. Компаратор не нужен: все сравнения —
+     * сравнения примитивов, и общий код сортировки не видит разных типов ключей.
+     *
+     * @param array массив для сортировки
+     * @param key функция извлечения ключа
+     * @param <T> тип элементов
+     * @return тот же массив, упорядоченный по возрастанию ключа
+     */
+    public <T> T[] heapSortByKey(T[] array, ToIntFunction<? super T> key) {
+        int[] keys = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = key.applyAsInt(array[i]);
+        }
+        return Permutations.apply(argSort(keys), array);
+    }
+
+    /**
+     * Устойчивая сортировка массива объектов по ключу long; то же,
+     * что {@link #heapSortByKey(Object[], ToIntFunction)}.
+     *
+     * @param array массив для сортировки
+     * @param key функция извлечения ключа
+     * @param <T> тип элементов
+     * @return тот же массив, упорядоченный по возрастанию ключа
+     */
+    public <T> T[] heapSortByLongKey(T[] array, ToLongFunction<? super T> key) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = key.applyAsLong(array[i]);
+        }
+        return Permutations.apply(argSort(keys), array);
+    }
+
+    /**
+     * Возвращает k наибольших элементов массива в порядке убывания.
+     * Используется ограниченная куча из k элементов, поэтому сложность O(n log k),
+     * а исходный массив не изменяется.
+     *
+     * @param array исходный массив
+     * @param k количество элементов (если больше длины массива, берётся весь массив)
+     * @return новый массив из min(k, n) наибольших элементов по убыванию
+     * @throws IllegalArgumentException если k &lt; 0
+     */
+    public int[] topK(int[] array, int k) {
+        int size = boundedSize(array.length, k);
+        int[] heap = Arrays.copyOf(array, size);
+        if (size == 0) {
+            return heap;
+        }
+
+        // Минимальная куча: в корне наименьший из k лучших кандидатов
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            heapifyMin(heap, size, i);
+        }
+        for (int i = size; i < array.length; i++) {
+            if (array[i] > heap[0]) {
+                heap[0] = array[i];
+                heapifyMin(heap, size, 0);
+            }
+        }
+
+        // Извлекаем минимумы в конец, получая порядок по убыванию
+        for (int i = size - 1; i > 0; i--) {
+            int temp = heap[0];
+            heap[0] = heap[i];
+            heap[i] = temp;
+            heapifyMin(heap, i, 0);
+        }
+        return heap;
+    }
+
+    /**
+     * Возвращает k наименьших элементов массива в порядке возрастания.
+     * Используется ограниченная куча из k элементов, поэтому сложность O(n log k),
+     * а исходный массив не изменяется.
+     *
+     * @param array исходный массив
+     * @param k количество элементов (если больше длины массива, берётся весь массив)
+     * @return новый массив из min(k, n) наименьших элементов по возрастанию
+     * @throws IllegalArgumentException если k &lt; 0
+     */
+    public int[] bottomK(int[] array, int k) {
+        int size = boundedSize(array.length, k);
+        int[] heap = Arrays.copyOf(array, size);
+        if (size == 0) {
+            return heap;
+        }
+
+        // Максимальная куча: в корне наибольший из k лучших кандидатов
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            heapify(heap, 0, size, i);
+        }
+        for (int i = size; i < array.length; i++) {
+            if (array[i] < heap[0]) {
+                heap[0] = array[i];
+                heapify(heap, 0, size, 0);
+            }
+        }
+
+        for (int i = size - 1; i > 0; i--) {
+            int temp = heap[0];
+            heap[0] = heap[i];
+            heap[i] = temp;
+            heapify(heap, 0, i, 0);
+        }
+        return heap;
+    }
+
+    /**
+     * Ленивая сортировка кучей: возвращает итератор по элементам массива в порядке
+     * возрастания. Минимальная куча строится один раз за O(n), а каждое извлечение
+     * выполняется только при вызове {@code nextInt()}, поэтому чтение первых k
+     * элементов стоит O(n + k log n) вместо полной сортировки.
+     * Исходный массив не изменяется.
+     *
+     * @param array исходный массив
+     * @return итератор по элементам массива в порядке возрастания
+     */
+    public PrimitiveIterator.OfInt sortedIterator(int[] array) {
+        int[] heap = array.clone();
+        for (int i = heap.length / 2 - 1; i >= 0; i--) {
+            heapifyMin(heap, heap.length, i);
+        }
+        return new PrimitiveIterator.OfInt() {
+            private int size = heap.length;
+
+            @Override
+            public boolean hasNext() {
+                return size > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (size == 0) {
+                    throw new NoSuchElementException();
+                }
+                int min = heap[0];
+                heap[0] = heap[--size];
+                heapifyMin(heap, size, 0);
+                return min;
+            }
+        };
+    }
+
+    /**
+     * Сортировка массива итеративной восходящей d-арной кучей ({@link DaryHeapSort}).
+     * Имя отличается от {@link #heapSort(int[], int, int)}, чтобы вызов с одним
+     * лишним int нельзя было спутать с сортировкой участка.
+     *
+     * @param array массив для сортировки
+     * @param arity арность кучи: 2, 4 или 8
+     * @return отсортированный массив
+     * @throws IllegalArgumentException если арность не поддерживается
+     */
+    public int[] heapSortDary(int[] array, int arity) {
+        return new DaryHeapSort(arity).sort(array);
+    }
+
+    /**
+     * Сортировка кучей оставшихся элементов буфера [position, limit) на месте.
+     * Подходит для буферов поверх отображённых в память файлов: данные не копируются
+     * в массив, а переставляются прямо в буфере. Позиция и предел не меняются.
+     *
+     * @param buffer буфер для сортировки (не только для чтения)
+     * @return тот же буфер
+     */
+    public IntBuffer heapSort(IntBuffer buffer) {
+        int offset = buffer.position();
+        int n = buffer.remaining();
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(buffer, offset, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = buffer.get(offset);
+            buffer.put(offset, buffer.get(offset + i));
+            buffer.put(offset + i, temp);
+            heapify(buffer, offset, i, 0);
+        }
+        return buffer;
+    }
+
+    /**
+     * Сортировка массива long с использованием алгоритма heapsort.
+     *
+     * @param array массив для сортировки
+     * @return отсортированный массив
+     */
+    public long[] heapSort(long[] array) {
+        int n = array.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            long temp = array[0];
             array[0] = array[i];
             array[i] = temp;
+            heapify(array, i, 0);
+        }
+        return array;
+    }
 
-            // Вызываем heapify на уменьшенной куче
+    /**
+     * Сортировка массива short с использованием алгоритма heapsort.
+     *
+     * @param array массив для сортировки
+     * @return отсортированный массив
+     */
+    public short[] heapSort(short[] array) {
+        int n = array.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            short temp = array[0];
+            array[0] = array[i];
+            array[i] = temp;
+            heapify(array, i, 0);
+        }
+        return array;
+    }
+
+    /**
+     * Сортировка массива char с использованием алгоритма heapsort.
+     *
+     * @param array массив для сортировки
+     * @return отсортированный массив
+     */
+    public char[] heapSort(char[] array) {
+        int n = array.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            char temp = array[0];
+            array[0] = array[i];
+            array[i] = temp;
+            heapify(array, i, 0);
+        }
+        return array;
+    }
+
+    /**
+     * Сортировка массива byte с использованием алгоритма heapsort.
+     *
+     * @param array массив для сортировки
+     * @return отсортированный массив
+     */
+    public byte[] heapSort(byte[] array) {
+        int n = array.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            byte temp = array[0];
+            array[0] = array[i];
+            array[i] = temp;
             heapify(array, i, 0);
         }
+        return array;
+    }
+
+    /**
+     * Сортировка массива double с использованием алгоритма heapsort.
+     * Порядок совпадает с {@link Double#compare}: -0.0 идёт перед 0.0,
+     * а все NaN оказываются в конце массива.
+     *
+     * @param array массив для сортировки
+     * @return отсортированный массив
+     */
+    public double[] heapSort(double[] array) {
+        // NaN не сравнимы оператором >, поэтому сначала переносим их в конец массива
+        int n = 0;
+        for (int i = 0; i < array.length; i++) {
+            double value = array[i];
+            if (!Double.isNaN(value)) {
+                array[i] = array[n];
+                array[n++] = value;
+            }
+        }
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            double temp = array[0];
+            array[0] = array[i];
+            array[i] = temp;
+            heapify(array, i, 0);
+        }
+
+        orderZeros(array, n);
+        return array;
+    }
+
+    /**
+     * Сортировка массива float с использованием алгоритма heapsort.
+     * Порядок совпадает с {@link Float#compare}: -0.0 идёт перед 0.0,
+     * а все NaN оказываются в конце массива.
+     *
+     * @param array массив для сортировки
+     * @return отсортированный массив
+     */
+    public float[] heapSort(float[] array) {
+        // NaN не сравнимы оператором >, поэтому сначала переносим их в конец массива
+        int n = 0;
+        for (int i = 0; i < array.length; i++) {
+            float value = array[i];
+            if (!Float.isNaN(value)) {
+                array[i] = array[n];
+                array[n++] = value;
+            }
+        }
 
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            float temp = array[0];
+            array[0] = array[i];
+            array[i] = temp;
+            heapify(array, i, 0);
+        }
+
+        orderZeros(array, n);
         return array;
     }
 
     /**
      * Вспомогательный метод для восстановления свойств кучи.
+     * Узел спускается вниз, пока он меньше одного из потомков ({@link IntHeaps}).
      *
      * @param array массив, представляющий кучу
+     * @param offset индекс корня кучи в массиве
+     * @param n размер кучи
+     * @param i индекс текущего узла относительно offset
+     */
+    private void heapify(int[] array, int offset, int n, int i) {
+        IntHeaps.siftDown(array, offset, n, i, array[offset + i], IntHeaps.MAX);
+    }
+
+    /**
+     * Восстановление свойств кучи в буфере; то же, что heapify для массива int,
+     * но с абсолютным доступом к элементам буфера.
+     *
+     * @param buffer буфер, представляющий кучу
+     * @param offset индекс корня кучи в буфере
+     * @param n размер кучи
+     * @param i индекс текущего узла относительно offset
+     */
+    private void heapify(IntBuffer buffer, int offset, int n, int i) {
+        int value = buffer.get(offset + i);
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            int childValue = buffer.get(offset + child);
+            if (child + 1 < n) {
+                int right = buffer.get(offset + child + 1);
+                if (right > childValue) {
+                    child++;
+                    childValue = right;
+                }
+            }
+            if (value >= childValue) {
+                break;
+            }
+            buffer.put(offset + i, childValue);
+            i = child;
+        }
+        buffer.put(offset + i, value);
+    }
+
+    /**
+     * Восстановление свойств кучи индексов, упорядоченных по ключам.
+     *
+     * @param keys столбец ключей
+     * @param index массив индексов, представляющий кучу
      * @param n размер кучи
      * @param i индекс текущего узла
      */
-    private void heapify(int[] array, int n, int i) {
-        int largest = i;
-        int left = 2 * i + 1;
-        int right = 2 * i + 2;
+    private void heapifyIndex(int[] keys, int[] index, int n, int i) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            if (left < n && greater(keys, index[left], index[largest])) {
+                largest = left;
+            }
+            if (right < n && greater(keys, index[right], index[largest])) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            int swap = index[i];
+            index[i] = index[largest];
+            index[largest] = swap;
+            i = largest;
+        }
+    }
 
-        // Если левый дочерний элемент больше корня
-        if (left < n && array[left] > array[largest]) {
-            largest = left;
+    /**
+     * Сравнивает строки a и b по ключу, а при равенстве ключей — по номеру строки.
+     */
+    private static boolean greater(int[] keys, int a, int b) {
+        return keys[a] > keys[b] || keys[a] == keys[b] && a > b;
+    }
+
+    /**
+     * Восстановление свойств кучи индексов, упорядоченных по ключам long.
+     *
+     * @param keys столбец ключей
+     * @param index массив индексов, представляющий кучу
+     * @param n размер кучи
+     * @param i индекс текущего узла
+     */
+    private void heapifyIndex(long[] keys, int[] index, int n, int i) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            if (left < n && greater(keys, index[left], index[largest])) {
+                largest = left;
+            }
+            if (right < n && greater(keys, index[right], index[largest])) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            int swap = index[i];
+            index[i] = index[largest];
+            index[largest] = swap;
+            i = largest;
         }
+    }
+
+    private static boolean greater(long[] keys, int a, int b) {
+        return keys[a] > keys[b] || keys[a] == keys[b] && a > b;
+    }
 
-        // Если правый дочерний элемент больше самого большого элемента
-        if (right < n && array[right] > array[largest]) {
-            largest = right;
+    /**
+     * Восстановление свойств минимальной кучи (в корне наименьший элемент).
+     *
+     * @param array массив, представляющий кучу
+     * @param n размер кучи
+     * @param i индекс текущего узла
+     */
+    private void heapifyMin(int[] array, int n, int i) {
+        IntHeaps.siftDown(array, 0, n, i, array[i], IntHeaps.MIN);
+    }
+
+    /**
+     * Возвращает размер ограниченной кучи для выборки k элементов из n.
+     */
+    private static int boundedSize(int n, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be non-negative: " + k);
         }
+        return Math.min(n, k);
+    }
 
-        // Если largest не является корнем
-        if (largest != i) {
-            int swap = array[i];
+    /**
+     * Восстановление свойств кучи для массива long.
+     *
+     * @param array массив, представляющий кучу
+     * @param n размер кучи
+     * @param i индекс текущего узла
+     */
+    private void heapify(long[] array, int n, int i) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            if (left < n && array[left] > array[largest]) {
+                largest = left;
+            }
+            if (right < n && array[right] > array[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            long swap = array[i];
+            array[i] = array[largest];
+            array[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Восстановление свойств кучи для массива short.
+     *
+     * @param array массив, представляющий кучу
+     * @param n размер кучи
+     * @param i индекс текущего узла
+     */
+    private void heapify(short[] array, int n, int i) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            if (left < n && array[left] > array[largest]) {
+                largest = left;
+            }
+            if (right < n && array[right] > array[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            short swap = array[i];
+            array[i] = array[largest];
+            array[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Восстановление свойств кучи для массива char.
+     *
+     * @param array массив, представляющий кучу
+     * @param n размер кучи
+     * @param i индекс текущего узла
+     */
+    private void heapify(char[] array, int n, int i) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            if (left < n && array[left] > array[largest]) {
+                largest = left;
+            }
+            if (right < n && array[right] > array[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            char swap = array[i];
             array[i] = array[largest];
             array[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Восстановление свойств кучи для массива byte.
+     *
+     * @param array массив, представляющий кучу
+     * @param n размер кучи
+     * @param i индекс текущего узла
+     */
+    private void heapify(byte[] array, int n, int i) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            if (left < n && array[left] > array[largest]) {
+                largest = left;
+            }
+            if (right < n && array[right] > array[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            byte swap = array[i];
+            array[i] = array[largest];
+            array[largest] = swap;
+            i = largest;
+        }
+    }
 
-            // Рекурсивно восстанавливаем свойства кучи
-            heapify(array, n, largest);
+    /**
+     * Восстановление свойств кучи для массива double.
+     *
+     * @param array массив, представляющий кучу
+     * @param n размер кучи
+     * @param i индекс текущего узла
+     */
+    private void heapify(double[] array, int n, int i) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            if (left < n && array[left] > array[largest]) {
+                largest = left;
+            }
+            if (right < n && array[right] > array[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            double swap = array[i];
+            array[i] = array[largest];
+            array[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Восстановление свойств кучи для массива float.
+     *
+     * @param array массив, представляющий кучу
+     * @param n размер кучи
+     * @param i индекс текущего узла
+     */
+    private void heapify(float[] array, int n, int i) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            if (left < n && array[left] > array[largest]) {
+                largest = left;
+            }
+            if (right < n && array[right] > array[largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            float swap = array[i];
+            array[i] = array[largest];
+            array[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Оператор &gt; не различает -0.0 и 0.0, поэтому после сортировки нули
+     * лежат одним блоком вперемешку. Переставляет -0.0 в начало этого блока.
+     *
+     * @param array отсортированный массив
+     * @param n число элементов без NaN
+     */
+    private void orderZeros(double[] array, int n) {
+        // Бинарный поиск первого элемента, не меньшего нуля
+        int from = 0;
+        int to = n;
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (array[mid] < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+
+        int negativeZeros = 0;
+        int end = from;
+        while (end < n && array[end] == 0) {
+            if (Double.doubleToRawLongBits(array[end]) < 0) {
+                negativeZeros++;
+            }
+            end++;
+        }
+        for (int i = from; i < end; i++) {
+            array[i] = i < from + negativeZeros ? -0.0 : 0.0;
+        }
+    }
+
+    /**
+     * Оператор &gt; не различает -0.0 и 0.0, поэтому после сортировки нули
+     * лежат одним блоком вперемешку. Переставляет -0.0 в начало этого блока.
+     *
+     * @param array отсортированный массив
+     * @param n число элементов без NaN
+     */
+    private void orderZeros(float[] array, int n) {
+        // Бинарный поиск первого элемента, не меньшего нуля
+        int from = 0;
+        int to = n;
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (array[mid] < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+
+        int negativeZeros = 0;
+        int end = from;
+        while (end < n && array[end] == 0) {
+            if (Float.floatToRawIntBits(array[end]) < 0) {
+                negativeZeros++;
+            }
+            end++;
+        }
+        for (int i = from; i < end; i++) {
+            array[i] = i < from + negativeZeros ? -0.0f : 0.0f;
         }
     }
 }
@@ -0,0 +1,112 @@
+package ru.nsu.gaev;
+
+/**
+ * Скалярная реализация {@link BlockSorter}, используемая, когда Vector API недоступен.
+ * Та же сеть компараторов, что и в {@link VectorBlockSorter}, применяется к каждому
+ * столбцу по очереди; {@link Math#min} и {@link Math#max} компилируются в инструкции
+ * без переходов, поэтому ошибок предсказания ветвлений здесь тоже нет.
+ */
+final class ScalarBlockSorter implements BlockSorter {
+
+    @Override
+    public void sortColumns(int[] array, int offset) {
+        for (int lane = 0; lane < LANES; lane++) {
+            int a0 = array[offset + lane];
+            int a1 = array[offset + 8 + lane];
+            int a2 = array[offset + 16 + lane];
+            int a3 = array[offset + 24 + lane];
+            int a4 = array[offset + 32 + lane];
+            int a5 = array[offset + 40 + lane];
+            int a6 = array[offset + 48 + lane];
+            int a7 = array[offset + 56 + lane];
+            int lo;
+
+            // Шаг 1: пары
+            lo = Math.min(a0, a1);
+            a1 = Math.max(a0, a1);
+            a0 = lo;
+            lo = Math.min(a2, a3);
+            a3 = Math.max(a2, a3);
+            a2 = lo;
+            lo = Math.min(a4, a5);
+            a5 = Math.max(a4, a5);
+            a4 = lo;
+            lo = Math.min(a6, a7);
+            a7 = Math.max(a6, a7);
+            a6 = lo;
+
+            // Шаг 2: четвёрки (отражение и полуочиститель)
+            lo = Math.min(a0, a3);
+            a3 = Math.max(a0, a3);
+            a0 = lo;
+            lo = Math.min(a1, a2);
+            a2 = Math.max(a1, a2);
+            a1 = lo;
+            lo = Math.min(a4, a7);
+            a7 = Math.max(a4, a7);
+            a4 = lo;
+            lo = Math.min(a5, a6);
+            a6 = Math.max(a5, a6);
+            a5 = lo;
+            lo = Math.min(a0, a1);
+            a1 = Math.max(a0, a1);
+            a0 = lo;
+            lo = Math.min(a2, a3);
+            a3 = Math.max(a2, a3);
+            a2 = lo;
+            lo = Math.min(a4, a5);
+            a5 = Math.max(a4, a5);
+            a4 = lo;
+            lo = Math.min(a6, a7);
+            a7 = Math.max(a6, a7);
+            a6 = lo;
+
+            // Шаг 3: восьмёрки (отражение и два полуочистителя)
+            lo = Math.min(a0, a7);
+            a7 = Math.max(a0, a7);
+            a0 = lo;
+            lo = Math.min(a1, a6);
+            a6 = Math.max(a1, a6);
+            a1 = lo;
+            lo = Math.min(a2, a5);
+            a5 = Math.max(a2, a5);
+            a2 = lo;
+            lo = Math.min(a3, a4);
+            a4 = Math.max(a3, a4);
+            a3 = lo;
+            lo = Math.min(a0, a2);
+            a2 = Math.max(a0, a2);
+            a0 = lo;
+            lo = Math.min(a1, a3);
+            a3 = Math.max(a1, a3);
+            a1 = lo;
+            lo = Math.min(a4, a6);
+            a6 = Math.max(a4, a6);
+            a4 = lo;
+            lo = Math.min(a5, a7);
+            a7 = Math.max(a5, a7);
+            a5 = lo;
+            lo = Math.min(a0, a1);
+            a1 = Math.max(a0, a1);
+            a0 = lo;
+            lo = Math.min(a2, a3);
+            a3 = Math.max(a2, a3);
+            a2 = lo;
+            lo = Math.min(a4, a5);
+            a5 = Math.max(a4, a5);
+            a4 = lo;
+            lo = Math.min(a6, a7);
+            a7 = Math.max(a6, a7);
+            a6 = lo;
+
+            array[offset + lane] = a0;
+            array[offset + 8 + lane] = a1;
+            array[offset + 16 + lane] = a2;
+            array[offset + 24 + lane] = a3;
+            array[offset + 32 + lane] = a4;
+            array[offset + 40 + lane] = a5;
+            array[offset + 48 + lane] = a6;
+            array[offset + 56 + lane] = a7;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ru.nsu.gaev;
+
+import java.util.Arrays;
+
+/**
+ * Приёмник статистики сортировки: число сравнений, обменов и вызовов просеивания,
+ * а также гистограмма глубин просеивания (на сколько уровней опустился элемент).
+ *
+ * <p>Заполняется {@link InstrumentedHeapSort}; обычные сортировки его не знают,
+ * поэтому на их скорость сбор статистики не влияет. Класс не потокобезопасен:
+ * один экземпляр используется одним потоком.
+ */
+public final class SortStats {
+    private static final int MAX_DEPTH = Integer.SIZE;
+
+    private long comparisons;
+    private long swaps;
+    private long sifts;
+    private final long[] depthHistogram = new long[MAX_DEPTH + 1];
+
+    void addComparisons(int count) {
+        comparisons += count;
+    }
+
+    void addSwap() {
+        swaps++;
+    }
+
+    void addSift(int depth) {
+        sifts++;
+        depthHistogram[Math.min(depth, MAX_DEPTH)]++;
+    }
+
+    /**
+     * Возвращает число сравнений элементов.
+     *
+     * @return количество сравнений
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Возвращает число обменов элементов.
+     *
+     * @return количество обменов
+     */
+    public long getSwaps() {
+        return swaps;
+    }
+
+    /**
+     * Возвращает число вызовов просеивания.
+     *
+     * @return количество просеиваний
+     */
+    public long getSifts() {
+        return sifts;
+    }
+
+    /**
+     * Возвращает число просеиваний, опустившихся ровно на depth уровней.
+     *
+     * @param depth глубина просеивания
+     * @return число таких просеиваний, 0 для отрицательной или слишком большой глубины
+     */
+    public long getSiftsAtDepth(int depth) {
+        return depth < 0 || depth > MAX_DEPTH ? 0 : depthHistogram[depth];
+    }
+
+    /**
+     * Возвращает копию гистограммы глубин просеивания.
+     *
+     * @return массив, в котором элемент d — число просеиваний глубины d
+     */
+    public long[] getDepthHistogram() {
+        return depthHistogram.clone();
+    }
+
+    /**
+     * Обнуляет все счётчики.
+     */
+    public void reset() {
+        comparisons = 0;
+        swaps = 0;
+        sifts = 0;
+        Arrays.fill(depthHistogram, 0);
+    }
+
+    @Override
+    public String toString() {
+        int last = depthHistogram.length - 1;
+        while (last > 0 && depthHistogram[last] == 0) {
+            last--;
+        }
+        return "comparisons=" + comparisons + " swaps=" + swaps + " sifts=" + sifts
+                + " depths=" + Arrays.toString(Arrays.copyOf(depthHistogram, last + 1));
+    }
+}
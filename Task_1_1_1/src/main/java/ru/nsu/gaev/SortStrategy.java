@@ -0,0 +1,28 @@
+package ru.nsu.gaev;
+
+/**
+ * Интерфейс для стратегий сортировки массива int по возрастанию.
+ */
+public interface SortStrategy {
+    /**
+     * Сортирует участок массива [from, to). Элементы вне участка не затрагиваются.
+     *
+     * @param array массив для сортировки
+     * @param from индекс первого элемента участка (включительно)
+     * @param to индекс последнего элемента участка (не включительно)
+     * @throws IllegalArgumentException если from &gt; to
+     * @throws ArrayIndexOutOfBoundsException если from &lt; 0 или to &gt; array.length
+     */
+    void sort(int[] array, int from, int to);
+
+    /**
+     * Сортирует весь массив.
+     *
+     * @param array массив для сортировки
+     * @return отсортированный массив (тот же объект)
+     */
+    default int[] sort(int[] array) {
+        sort(array, 0, array.length);
+        return array;
+    }
+}
@@ -0,0 +1,112 @@
+package ru.nsu.gaev;
+
+/**
+ * Фасад сортировки, который сам выбирает алгоритм по длине участка и диапазону значений.
+ *
+ * <ul>
+ *     <li>не длиннее {@code insertionThreshold} — сортировка вставками;</li>
+ *     <li>не короче {@code radixThreshold} — поразрядная сортировка ({@link RadixSort});</li>
+ *     <li>не короче {@code narrowRadixThreshold}, если диапазон max - min помещается
+ *     в 16 бит (не больше двух проходов) — тоже поразрядная сортировка;</li>
+ *     <li>иначе — сортировка кучей ({@link Sample#heapSort(int[], int, int)}).</li>
+ * </ul>
+ * Пороги можно подобрать бенчмарком {@code SortBenchmark} и задать через конструктор.
+ */
+public class Sorter implements SortStrategy {
+    /**
+     * Порог сортировки вставками по умолчанию.
+     */
+    public static final int DEFAULT_INSERTION_THRESHOLD = 32;
+
+    /**
+     * Длина, начиная с которой по умолчанию всегда выбирается поразрядная сортировка.
+     */
+    public static final int DEFAULT_RADIX_THRESHOLD = 1 << 12;
+
+    /**
+     * Длина, начиная с которой по умолчанию выбирается поразрядная сортировка
+     * для значений с диапазоном не более 16 бит.
+     */
+    public static final int DEFAULT_NARROW_RADIX_THRESHOLD = 256;
+
+    private final Sample sample = new Sample();
+    private final RadixSort radixSort = new RadixSort();
+    private final int insertionThreshold;
+    private final int radixThreshold;
+    private final int narrowRadixThreshold;
+
+    /**
+     * Создаёт фасад с порогами по умолчанию.
+     */
+    public Sorter() {
+        this(DEFAULT_INSERTION_THRESHOLD, DEFAULT_RADIX_THRESHOLD, DEFAULT_NARROW_RADIX_THRESHOLD);
+    }
+
+    /**
+     * Создаёт фасад с заданными порогами.
+     *
+     * @param insertionThreshold максимальная длина для сортировки вставками
+     * @param radixThreshold минимальная длина для поразрядной сортировки
+     * @param narrowRadixThreshold минимальная длина для поразрядной сортировки
+     *                             при диапазоне значений не более 16 бит
+     * @throws IllegalArgumentException если какой-либо порог отрицателен
+     */
+    public Sorter(int insertionThreshold, int radixThreshold, int narrowRadixThreshold) {
+        if (insertionThreshold < 0 || radixThreshold < 0 || narrowRadixThreshold < 0) {
+            throw new IllegalArgumentException("Thresholds must be non-negative");
+        }
+        this.insertionThreshold = insertionThreshold;
+        this.radixThreshold = radixThreshold;
+        this.narrowRadixThreshold = narrowRadixThreshold;
+    }
+
+    /**
+     * Возвращает порог сортировки вставками.
+     *
+     * @return наибольшая длина участка, сортируемого вставками
+     */
+    public int getInsertionThreshold() {
+        return insertionThreshold;
+    }
+
+    /**
+     * Возвращает порог поразрядной сортировки.
+     *
+     * @return минимальная длина для поразрядной сортировки при произвольном диапазоне
+     */
+    public int getRadixThreshold() {
+        return radixThreshold;
+    }
+
+    /**
+     * Возвращает порог поразрядной сортировки для узкого диапазона.
+     *
+     * @return минимальная длина для поразрядной сортировки при диапазоне не более 16 бит
+     */
+    public int getNarrowRadixThreshold() {
+        return narrowRadixThreshold;
+    }
+
+    @Override
+    public void sort(int[] array, int from, int to) {
+        IntArrays.checkRange(array.length, from, to);
+        int n = to - from;
+        if (n <= insertionThreshold) {
+            IntArrays.insertionSort(array, from, to);
+            return;
+        }
+
+        // Диапазон значений нужен для выбора, а заодно экономит радиксу лишний проход по данным
+        int min = array[from];
+        int max = array[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, array[i]);
+            max = Math.max(max, array[i]);
+        }
+        if (n >= radixThreshold || n >= narrowRadixThreshold && RadixSort.passes(min, max) <= 2) {
+            radixSort.sort(array, from, to, min, max);
+        } else {
+            sample.heapSort(array, from, to);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса AdaptiveSort (поиск естественных серий перед сортировкой кучей).
+ */
+class AdaptiveSortTest {
+
+    private static void assertSorts(AdaptiveSort sorter, int[] array) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorter.sort(array), () -> "Ошибка адаптивной сортировки");
+    }
+
+    /**
+     * Проверяет отсортированный, обратный и пилообразный входы.
+     */
+    @Test
+    void presortedInputs() {
+        AdaptiveSort sorter = new AdaptiveSort();
+        assertSorts(sorter, IntStream.range(0, 10_000).toArray());
+        assertSorts(sorter, IntStream.range(0, 10_000).map(i -> -i).toArray());
+        assertSorts(sorter, IntStream.range(0, 10_000).map(i -> i % 1000).toArray());
+        assertSorts(sorter, IntStream.range(0, 10_000).map(i -> Math.min(i, 9_999 - i)).toArray());
+        assertSorts(sorter, new int[]{5, 5, 5, 4, 4, 3});
+    }
+
+    /**
+     * Проверяет, что случайные данные уходят в сортировку кучей и сортируются верно.
+     */
+    @Test
+    void randomFallsBackToHeapSort() {
+        Random random = new Random(70);
+        for (int maxRuns = 1; maxRuns <= 5; maxRuns++) {
+            for (int n = 0; n < 200; n++) {
+                assertSorts(new AdaptiveSort(maxRuns), random.ints(n, 0, 20).toArray());
+            }
+        }
+    }
+
+    /**
+     * Проверяет слияние нечётного числа серий внутри участка.
+     */
+    @Test
+    void rangeWithOddRuns() {
+        int[] array = {100, 1, 2, 3, 9, 8, 7, 4, 5, -1};
+        new AdaptiveSort(3).sort(array, 1, 9);
+        assertArrayEquals(new int[]{100, 1, 2, 3, 4, 5, 7, 8, 9, -1}, array);
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveSort(0));
+    }
+}
@@ -0,0 +1,169 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса BatchSorter (пакетная сортировка множества массивов).
+ */
+class BatchSorterTest {
+
+    private static List<int[]> randomArrays(int count, Random random) {
+        List<int[]> arrays = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            arrays.add(random.ints(random.nextInt(100)).toArray());
+        }
+        return arrays;
+    }
+
+    /**
+     * Проверяет, что все массивы списка отсортированы и учтены в статистике.
+     */
+    @Test
+    void sortsListAndRecordsStats() {
+        List<int[]> arrays = randomArrays(1000, new Random(30));
+        List<int[]> expected = new ArrayList<>();
+        long elements = 0;
+        for (int[] array : arrays) {
+            int[] copy = array.clone();
+            Arrays.sort(copy);
+            expected.add(copy);
+            elements += array.length;
+        }
+
+        BatchSorter sorter = new BatchSorter();
+        List<int[]> result = sorter.sortAll(arrays).join();
+        assertSame(arrays, result);
+        for (int i = 0; i < arrays.size(); i++) {
+            assertArrayEquals(expected.get(i), arrays.get(i));
+        }
+
+        BatchSorter.Stats stats = sorter.getStats();
+        assertEquals(4, stats.getBatches());
+        assertEquals(1000, stats.getArrays());
+        assertEquals(elements, stats.getElements());
+        assertTrue(stats.getMaxNanos() > 0);
+        assertTrue(stats.getMeanNanos() <= stats.getMaxNanos());
+
+        sorter.resetStats();
+        assertEquals(0, sorter.getStats().getBatches());
+    }
+
+    /**
+     * Проверяет сортировку потока на собственном исполнителе с обратным вызовом.
+     */
+    @Test
+    void sortsStreamOnCustomExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            BatchSorter sorter = new BatchSorter(executor, 7, new Sample()::heapSort);
+            List<int[]> source = randomArrays(50, new Random(31));
+            List<int[]> result = sorter.sortAll(source.stream())
+                    .whenComplete((arrays, error) -> assertEquals(50, arrays.size()))
+                    .join();
+            assertEquals(source, result);
+            for (int[] array : result) {
+                int[] copy = array.clone();
+                Arrays.sort(copy);
+                assertArrayEquals(copy, array);
+            }
+            assertEquals(8, sorter.getStats().getBatches());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Проверяет, что массивы от разных потоков собираются в общие полные пакеты.
+     */
+    @Test
+    void submitFillsBatchesFromManyThreads() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BatchSorter sorter = new BatchSorter(executor, 10, new Sorter(),
+                    Duration.ofHours(1));
+            List<int[]> source = randomArrays(100, new Random(32));
+            List<CompletableFuture<int[]>> futures = new ArrayList<>();
+            Thread[] callers = new Thread[4];
+            for (int t = 0; t < callers.length; t++) {
+                int first = t;
+                callers[t] = new Thread(() -> {
+                    for (int i = first; i < source.size(); i += callers.length) {
+                        CompletableFuture<int[]> future = sorter.submit(source.get(i));
+                        synchronized (futures) {
+                            futures.add(future);
+                        }
+                    }
+                });
+                callers[t].start();
+            }
+            for (Thread caller : callers) {
+                caller.join();
+            }
+            for (CompletableFuture<int[]> future : futures) {
+                int[] array = future.join();
+                int[] copy = array.clone();
+                Arrays.sort(copy);
+                assertArrayEquals(copy, array);
+            }
+            assertEquals(100, futures.size());
+            assertEquals(10, sorter.getStats().getBatches());
+            assertEquals(100, sorter.getStats().getArrays());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Проверяет, что неполный пакет уходит по таймеру или по {@link BatchSorter#flush()}.
+     */
+    @Test
+    void submitFlushesByTimeAndOnDemand() {
+        BatchSorter timed = new BatchSorter(ForkJoinPool.commonPool(), 100, new Sorter(),
+                Duration.ofMillis(5));
+        int[] first = {3, 1, 2};
+        assertSame(first, timed.submit(first).join());
+        assertArrayEquals(new int[]{1, 2, 3}, first);
+        assertEquals(1, timed.getStats().getBatches());
+
+        BatchSorter manual = new BatchSorter(ForkJoinPool.commonPool(), 100, new Sorter(),
+                Duration.ofHours(1));
+        CompletableFuture<int[]> a = manual.submit(new int[]{2, 1});
+        CompletableFuture<int[]> b = manual.submit(new int[]{5, 4});
+        manual.flush();
+        assertArrayEquals(new int[]{1, 2}, a.join());
+        assertArrayEquals(new int[]{4, 5}, b.join());
+        manual.flush();
+        assertEquals(1, manual.getStats().getBatches());
+        assertEquals(2, manual.getStats().getArrays());
+    }
+
+    /**
+     * Проверяет пустой вход и некорректный размер пакета.
+     */
+    @Test
+    void emptyInputAndValidation() {
+        BatchSorter sorter = new BatchSorter();
+        assertTrue(sorter.sortAll(Stream.empty()).join().isEmpty());
+        assertEquals(0, sorter.getStats().getBatches());
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSorter(Runnable::run, 0, new Sorter()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSorter(Runnable::run, 1, new Sorter(), Duration.ZERO));
+    }
+}
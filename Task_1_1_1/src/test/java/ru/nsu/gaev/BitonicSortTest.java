@@ -0,0 +1,78 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса BitonicSort (сортировка блоков сетями компараторов).
+ */
+class BitonicSortTest {
+
+    private static void assertSorts(BitonicSort sorter, int[] array) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorter.sort(array), () -> "Ошибка битонической сортировки");
+    }
+
+    /**
+     * Проверяет реализацию, выбранную автоматически, на длинах вокруг границ блоков.
+     */
+    @Test
+    void defaultImplementation() {
+        BitonicSort sorter = new BitonicSort();
+        assertEquals(BitonicSort.isVectorApiAvailable(), sorter.isVectorized());
+        Random random = new Random(20);
+        for (int n : new int[]{0, 1, 7, 8, 63, 64, 65, 128, 1000, 100_000}) {
+            assertSorts(sorter, random.ints(n).toArray());
+        }
+    }
+
+    /**
+     * Проверяет скалярную реализацию сети, включая крайние значения и повторы.
+     */
+    @Test
+    void scalarImplementation() {
+        BitonicSort sorter = new BitonicSort(new ScalarBlockSorter());
+        assertFalse(sorter.isVectorized());
+        Random random = new Random(21);
+        for (int n = 0; n < 300; n++) {
+            assertSorts(sorter, random.ints(n, -3, 3).toArray());
+        }
+        assertSorts(sorter, new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE});
+    }
+
+    /**
+     * Проверяет, что векторная и скалярная сети дают одинаковый результат на каждом блоке.
+     */
+    @Test
+    void vectorMatchesScalar() {
+        assumeTrue(BitonicSort.isVectorApiAvailable(), "Vector API недоступен");
+        int[] array = new Random(22).ints(64 * 100).toArray();
+        int[] vector = array.clone();
+        int[] scalar = array.clone();
+        BlockSorter vectorSorter = BitonicSort.vectorBlockSorter();
+        for (int offset = 0; offset < array.length; offset += 64) {
+            vectorSorter.sortColumns(vector, offset);
+            new ScalarBlockSorter().sortColumns(scalar, offset);
+        }
+        assertArrayEquals(scalar, vector);
+    }
+
+    /**
+     * Проверяет сортировку участка массива.
+     */
+    @Test
+    void range() {
+        int[] array = new Random(23).ints(200).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected, 10, 150);
+        new BitonicSort().sort(array, 10, 150);
+        assertArrayEquals(expected, array);
+    }
+}
@@ -0,0 +1,37 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса BlockedHeapSort (сортировка блочной кучей).
+ */
+class BlockedHeapSortTest {
+
+    /**
+     * Проверяет сортировку с высотой блока по умолчанию и маленькими блоками.
+     */
+    @Test
+    void sorts() {
+        int[] array = new Random(63).ints(100_000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, new BlockedHeapSort().sort(array.clone()));
+        assertArrayEquals(expected, new BlockedHeapSort(3).sort(array.clone()));
+    }
+
+    /**
+     * Проверяет сортировку участка и некорректную высоту блока.
+     */
+    @Test
+    void rangeAndValidation() {
+        int[] array = {9, 5, 3, 7, 1, 0};
+        new BlockedHeapSort(2).sort(array, 1, 5);
+        assertArrayEquals(new int[]{9, 1, 3, 5, 7, 0}, array);
+        assertThrows(IllegalArgumentException.class, () -> new BlockedHeapSort(31));
+    }
+}
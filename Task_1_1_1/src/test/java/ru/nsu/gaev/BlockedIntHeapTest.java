@@ -0,0 +1,93 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса BlockedIntHeap (куча с блочной раскладкой).
+ */
+class BlockedIntHeapTest {
+
+    /**
+     * Проверяет порядок извлечения при разных высотах блока и росте с нуля.
+     */
+    @Test
+    void orderForAllPageHeights() {
+        int[] values = new Random(60).ints(3000, -500, 500).toArray();
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int pageHeight = 1; pageHeight <= 13; pageHeight++) {
+            BlockedIntHeap min = new BlockedIntHeap(IntHeap.Order.MIN, 0, pageHeight);
+            BlockedIntHeap max = new BlockedIntHeap(IntHeap.Order.MAX, 0, pageHeight);
+            for (int value : values) {
+                min.push(value);
+                max.push(value);
+            }
+            for (int i = 0; i < sorted.length; i++) {
+                assertEquals(sorted[i], min.pop());
+                assertEquals(sorted[sorted.length - 1 - i], max.pop());
+            }
+            assertTrue(min.isEmpty());
+        }
+    }
+
+    /**
+     * Проверяет построение из участка массива и замену вершины.
+     */
+    @Test
+    void heapifyAndReplaceTop() {
+        int[] values = new Random(61).ints(1000).toArray();
+        BlockedIntHeap heap = BlockedIntHeap.heapify(values, 100, 900, IntHeap.Order.MIN, 3);
+        assertEquals(800, heap.size());
+        int[] expected = Arrays.copyOfRange(values, 100, 900);
+        Arrays.sort(expected);
+        assertEquals(expected[0], heap.replaceTop(Integer.MAX_VALUE));
+        for (int i = 1; i < expected.length; i++) {
+            assertEquals(expected[i], heap.pop());
+        }
+        assertEquals(Integer.MAX_VALUE, heap.pop());
+    }
+
+    /**
+     * Проверяет, что чередование вставок и извлечений совпадает с IntHeap.
+     */
+    @Test
+    void sameAsIntHeap() {
+        Random random = new Random(62);
+        BlockedIntHeap blocked = new BlockedIntHeap(IntHeap.Order.MAX, 5, 2);
+        IntHeap plain = new IntHeap(IntHeap.Order.MAX);
+        for (int step = 0; step < 20_000; step++) {
+            if (plain.isEmpty() || random.nextInt(3) > 0) {
+                int value = random.nextInt();
+                blocked.push(value);
+                plain.push(value);
+            } else {
+                assertEquals(plain.pop(), blocked.pop());
+            }
+            assertEquals(plain.size(), blocked.size());
+        }
+    }
+
+    /**
+     * Проверяет пустую кучу и некорректные параметры.
+     */
+    @Test
+    void emptyAndValidation() {
+        BlockedIntHeap heap = new BlockedIntHeap(IntHeap.Order.MIN);
+        assertThrows(NoSuchElementException.class, heap::peek);
+        heap.push(1);
+        heap.clear();
+        assertThrows(NoSuchElementException.class, heap::pop);
+        assertThrows(IllegalArgumentException.class,
+                () -> new BlockedIntHeap(IntHeap.Order.MIN, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BlockedIntHeap(IntHeap.Order.MIN, -1, 4));
+        assertThrows(IllegalArgumentException.class, () -> heap.ensureCapacity(1 << 30));
+    }
+}
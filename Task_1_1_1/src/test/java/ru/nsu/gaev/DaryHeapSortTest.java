@@ -0,0 +1,63 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса DaryHeapSort (восходящая d-арная куча).
+ */
+class DaryHeapSortTest {
+
+    /**
+     * Проверяет сортировку случайных массивов разной длины для всех арностей.
+     */
+    @Test
+    void randomArraysAllArities() {
+        Random random = new Random(3);
+        for (int arity : new int[]{2, 4, 8}) {
+            for (int n = 0; n < 200; n++) {
+                int[] array = random.ints(n, -50, 50).toArray();
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+                assertArrayEquals(expected, new DaryHeapSort(arity).sort(array),
+                        () -> "Ошибка сортировки d-арной кучей");
+            }
+        }
+    }
+
+    /**
+     * Проверяет выбор движка через Sample.heapSortDary.
+     */
+    @Test
+    void selectedFromSample() {
+        int[] array = new Random(4).ints(10_000).toArray();
+        int[] expected = new Sample().heapSort(array.clone());
+        assertArrayEquals(expected, new Sample().heapSortDary(array, 4));
+    }
+
+    /**
+     * Проверяет крайние значения int.
+     */
+    @Test
+    void extremeValues() {
+        int[] array = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, Integer.MAX_VALUE};
+        int[] expected = {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        assertArrayEquals(expected, new DaryHeapSort(8).sort(array));
+    }
+
+    /**
+     * Проверяет проверку арности.
+     */
+    @Test
+    void invalidArity() {
+        assertThrows(IllegalArgumentException.class, () -> new DaryHeapSort(3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Sample().heapSortDary(new int[1], 16));
+        assertEquals(4, new DaryHeapSort(4).getArity());
+    }
+}
@@ -0,0 +1,91 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Тесты для класса ExternalHeapSort (внешняя сортировка файлов).
+ */
+class ExternalHeapSortTest {
+    @TempDir
+    Path dir;
+
+    static void writeInts(Path path, int[] data) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(data.length * Integer.BYTES);
+        buffer.asIntBuffer().put(data);
+        Files.write(path, buffer.array());
+    }
+
+    static int[] readInts(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        int[] data = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(data);
+        return data;
+    }
+
+    private void assertSortsFile(ExternalHeapSort sorter, int[] data) throws IOException {
+        Path input = dir.resolve("input.bin");
+        Path output = dir.resolve("output.bin");
+        writeInts(input, data);
+        sorter.sort(input, output);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output), () -> "Ошибка внешней сортировки");
+    }
+
+    /**
+     * Проверяет многопроходное слияние: участков больше, чем fanIn.
+     */
+    @Test
+    void multiPassMerge() throws IOException {
+        Path temp = Files.createDirectory(dir.resolve("tmp"));
+        int[] data = new Random(12).ints(50_000).toArray();
+        assertSortsFile(new ExternalHeapSort(1000, 3, temp), data);
+        try (Stream<Path> files = Files.list(temp)) {
+            assertArrayEquals(new Object[]{}, files.toArray(), () -> "Остались временные файлы");
+        }
+    }
+
+    /**
+     * Проверяет однопроходное слияние с неполным последним участком.
+     */
+    @Test
+    void singlePassMerge() throws IOException {
+        int[] data = new Random(13).ints(40_001, -5, 5).toArray();
+        assertSortsFile(new ExternalHeapSort(10_000, 64, dir), data);
+    }
+
+    /**
+     * Проверяет файл, помещающийся в один участок, и пустой файл.
+     */
+    @Test
+    void singleRunAndEmpty() throws IOException {
+        assertSortsFile(new ExternalHeapSort(), new int[]{5, -1, 3});
+        assertSortsFile(new ExternalHeapSort(), new int[]{});
+    }
+
+    /**
+     * Проверяет некорректные параметры и файл неправильного размера.
+     */
+    @Test
+    void invalidInput() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalHeapSort(0, 2, null));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalHeapSort(10, 1, null));
+
+        Path input = dir.resolve("broken.bin");
+        Files.write(input, new byte[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalHeapSort().sort(input, dir.resolve("out.bin")));
+    }
+}
@@ -0,0 +1,60 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для классов InstrumentedHeapSort и SortStats.
+ */
+class InstrumentedHeapSortTest {
+
+    /**
+     * Проверяет, что результат совпадает с обычной сортировкой кучей.
+     */
+    @Test
+    void sameResultAsSample() {
+        int[] array = new Random(40).ints(10_000).toArray();
+        int[] expected = new Sample().heapSort(array.clone());
+        SortStats stats = new SortStats();
+        assertArrayEquals(expected, new InstrumentedHeapSort(stats).sort(array));
+        assertTrue(stats.getComparisons() > 0);
+        assertTrue(stats.getSwaps() >= 10_000);
+    }
+
+    /**
+     * Проверяет точные значения счётчиков на маленьком примере.
+     */
+    @Test
+    void exactCountsOnSortedInput() {
+        SortStats stats = new SortStats();
+        new InstrumentedHeapSort(stats).sort(new int[]{1, 2, 3});
+        // Построение: 2 сравнения и обмен 1↔3 (глубина 1);
+        // извлечения: 3 обмена корня и просеивания глубины 1, 0 и 0 с одним сравнением
+        assertEquals(3, stats.getComparisons());
+        assertEquals(5, stats.getSwaps());
+        assertEquals(4, stats.getSifts());
+        assertEquals(2, stats.getSiftsAtDepth(0));
+        assertEquals(2, stats.getSiftsAtDepth(1));
+        assertEquals(stats.getSifts(), LongStream.of(stats.getDepthHistogram()).sum());
+    }
+
+    /**
+     * Проверяет сброс статистики и обработку некорректной глубины.
+     */
+    @Test
+    void reset() {
+        SortStats stats = new SortStats();
+        new InstrumentedHeapSort(stats).sort(new Random(41).ints(100).toArray());
+        stats.reset();
+        assertEquals(0, stats.getComparisons());
+        assertEquals(0, stats.getSwaps());
+        assertEquals(0, stats.getSifts());
+        assertEquals(0, stats.getSiftsAtDepth(-1));
+        assertEquals("comparisons=0 swaps=0 sifts=0 depths=[0]", stats.toString());
+    }
+}
@@ -0,0 +1,75 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса IntHeap (примитивная очередь с приоритетом).
+ */
+class IntHeapTest {
+
+    /**
+     * Проверяет, что минимальная куча выдаёт элементы по возрастанию.
+     */
+    @Test
+    void minHeapOrder() {
+        int[] values = new Random(14).ints(1000).toArray();
+        IntHeap heap = new IntHeap(IntHeap.Order.MIN, 0);
+        for (int value : values) {
+            heap.push(value);
+        }
+        Arrays.sort(values);
+        for (int value : values) {
+            assertEquals(value, heap.pop());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    /**
+     * Проверяет максимальную кучу, построенную из массива, включая крайние значения.
+     */
+    @Test
+    void maxHeapFromArray() {
+        int[] values = {Integer.MIN_VALUE, 5, -1, Integer.MAX_VALUE, 5, 0};
+        IntHeap heap = IntHeap.heapify(values, IntHeap.Order.MAX);
+        assertEquals(IntHeap.Order.MAX, heap.getOrder());
+        assertEquals(6, heap.size());
+        int[] expected = {Integer.MAX_VALUE, 5, 5, 0, -1, Integer.MIN_VALUE};
+        for (int value : expected) {
+            assertEquals(value, heap.pop());
+        }
+        assertEquals(Integer.MIN_VALUE, values[0], () -> "Исходный массив изменён");
+    }
+
+    /**
+     * Проверяет замену вершины и просмотр без удаления.
+     */
+    @Test
+    void replaceTopAndPeek() {
+        IntHeap heap = IntHeap.heapify(new int[]{3, 1, 2}, IntHeap.Order.MIN);
+        assertEquals(1, heap.peek());
+        assertEquals(1, heap.replaceTop(10));
+        assertEquals(2, heap.peek());
+        assertEquals(3, heap.size());
+        heap.clear();
+        assertTrue(heap.isEmpty());
+    }
+
+    /**
+     * Проверяет операции над пустой кучей и некорректную ёмкость.
+     */
+    @Test
+    void emptyHeap() {
+        IntHeap heap = new IntHeap(IntHeap.Order.MAX);
+        assertThrows(NoSuchElementException.class, heap::peek);
+        assertThrows(NoSuchElementException.class, heap::pop);
+        assertThrows(NoSuchElementException.class, () -> heap.replaceTop(1));
+        assertThrows(IllegalArgumentException.class, () -> new IntHeap(IntHeap.Order.MIN, -1));
+    }
+}
@@ -0,0 +1,62 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса IntHeaps (общее просеивание двоичной кучи).
+ */
+class IntHeapsTest {
+
+    private static void assertHeap(int[] heap, int offset, int n, int mask) {
+        for (int i = 1; i < n; i++) {
+            int parent = (i - 1) / 2;
+            assertTrue((heap[offset + parent] ^ mask) <= (heap[offset + i] ^ mask),
+                    () -> "Нарушено свойство кучи: " + Arrays.toString(heap));
+        }
+    }
+
+    /**
+     * Проверяет построение минимальной и максимальной кучи со сдвигом и крайними значениями.
+     */
+    @Test
+    void siftDownBuildsHeap() {
+        Random random = new Random(5);
+        for (int mask : new int[]{IntHeaps.MIN, IntHeaps.MAX}) {
+            for (int n = 0; n < 50; n++) {
+                int[] heap = random.ints(n + 3).toArray();
+                heap[heap.length - 1] = Integer.MIN_VALUE;
+                heap[heap.length - 2] = Integer.MAX_VALUE;
+                int[] before = heap.clone();
+                for (int i = n / 2 - 1; i >= 0; i--) {
+                    IntHeaps.siftDown(heap, 3, n, i, heap[3 + i], mask);
+                }
+                assertHeap(heap, 3, n, mask);
+                // Элементы вне кучи не тронуты, внутри — те же значения
+                assertArrayEquals(Arrays.copyOf(before, 3), Arrays.copyOf(heap, 3));
+                int[] sortedBefore = before.clone();
+                int[] sortedAfter = heap.clone();
+                Arrays.sort(sortedBefore);
+                Arrays.sort(sortedAfter);
+                assertArrayEquals(sortedBefore, sortedAfter);
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что подъём сохраняет свойство минимальной кучи.
+     */
+    @Test
+    void siftUpKeepsHeap() {
+        int[] values = new Random(6).ints(200, -1000, 1000).toArray();
+        int[] heap = new int[values.length];
+        for (int n = 0; n < values.length; n++) {
+            IntHeaps.siftUp(heap, n, values[n]);
+            assertHeap(heap, 0, n + 1, IntHeaps.MIN);
+        }
+    }
+}
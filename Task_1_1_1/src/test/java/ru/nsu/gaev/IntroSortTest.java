@@ -0,0 +1,70 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса IntroSort (быстрая сортировка с запасным heapsort).
+ */
+class IntroSortTest {
+
+    private static void assertSorts(IntroSort sorter, int[] array) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorter.sort(array), () -> "Ошибка интроспективной сортировки");
+    }
+
+    /**
+     * Проверяет случайные массивы разной длины.
+     */
+    @Test
+    void randomArrays() {
+        Random random = new Random(9);
+        for (int n = 0; n < 300; n++) {
+            assertSorts(new IntroSort(), random.ints(n).toArray());
+        }
+        assertSorts(new IntroSort(), random.ints(100_000).toArray());
+    }
+
+    /**
+     * Проверяет упорядоченные, обратные и одинаковые данные.
+     */
+    @Test
+    void structuredInputs() {
+        int n = 50_000;
+        assertSorts(new IntroSort(), IntStream.range(0, n).toArray());
+        assertSorts(new IntroSort(), IntStream.range(0, n).map(i -> n - i).toArray());
+        assertSorts(new IntroSort(), new int[n]);
+        assertSorts(new IntroSort(2), new Random(10).ints(n, 0, 3).toArray());
+    }
+
+    /**
+     * Проверяет переход на heapsort при исчерпании предела глубины.
+     */
+    @Test
+    void heapSortFallback() {
+        for (int depthLimit = 0; depthLimit < 4; depthLimit++) {
+            int[] array = new Random(11).ints(10_000, -100, 100).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            new IntroSort().sort(array, 0, array.length, depthLimit);
+            assertArrayEquals(expected, array, () -> "Ошибка при переходе на heapsort");
+        }
+    }
+
+    /**
+     * Проверяет проверку порога.
+     */
+    @Test
+    void invalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new IntroSort(1));
+        assertEquals(IntroSort.DEFAULT_INSERTION_THRESHOLD,
+                new IntroSort().getInsertionThreshold());
+    }
+}
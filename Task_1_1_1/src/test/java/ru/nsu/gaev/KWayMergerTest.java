@@ -0,0 +1,105 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Тесты для класса KWayMerger (ленивое k-путевое слияние).
+ */
+class KWayMergerTest {
+    @TempDir
+    Path dir;
+
+    private static int[] drain(KWayMerger merger) {
+        return StreamSupport.intStream(
+                Spliterators.spliteratorUnknownSize(merger, 0), false).toArray();
+    }
+
+    /**
+     * Проверяет слияние отсортированных массивов разной длины, включая пустые.
+     */
+    @Test
+    void mergesArrays() {
+        Random random = new Random(50);
+        Sample sample = new Sample();
+        List<int[]> chunks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            chunks.add(sample.heapSort(random.ints(random.nextInt(500), -100, 100).toArray()));
+        }
+        chunks.add(new int[0]);
+
+        int[] expected = chunks.stream().flatMapToInt(IntStream::of).sorted().toArray();
+        assertArrayEquals(expected, drain(KWayMerger.ofArrays(chunks)));
+    }
+
+    /**
+     * Проверяет слияние отсортированных файлов.
+     */
+    @Test
+    void mergesFiles() throws IOException {
+        Random random = new Random(51);
+        List<Path> files = new ArrayList<>();
+        List<int[]> chunks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int[] chunk = random.ints(random.nextInt(40_000)).sorted().toArray();
+            Path file = dir.resolve("run" + i + ".bin");
+            ExternalHeapSortTest.writeInts(file, chunk);
+            files.add(file);
+            chunks.add(chunk);
+        }
+
+        int[] expected = chunks.stream().flatMapToInt(IntStream::of).sorted().toArray();
+        try (KWayMerger merger = KWayMerger.ofFiles(files)) {
+            assertArrayEquals(expected, drain(merger));
+        }
+    }
+
+    /**
+     * Проверяет, что хвост в 1–3 байта в конце файла не теряется молча.
+     */
+    @Test
+    void truncatedFile() throws IOException {
+        Path good = dir.resolve("good.bin");
+        ExternalHeapSortTest.writeInts(good, new int[]{1, 2, 3});
+        Path tail = dir.resolve("tail.bin");
+        byte[] bytes = new byte[3 * Integer.BYTES + 2];
+        bytes[3] = 5;
+        Files.write(tail, bytes);
+        try (KWayMerger merger = KWayMerger.ofFiles(List.of(good, tail))) {
+            assertThrows(UncheckedIOException.class, () -> drain(merger));
+        }
+
+        Path tiny = dir.resolve("tiny.bin");
+        Files.write(tiny, new byte[2]);
+        assertThrows(IOException.class, () -> KWayMerger.ofFiles(List.of(good, tiny)));
+    }
+
+    /**
+     * Проверяет поведение без источников и после исчерпания.
+     */
+    @Test
+    void exhausted() {
+        KWayMerger empty = KWayMerger.ofArrays();
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, empty::nextInt);
+
+        KWayMerger merger = KWayMerger.ofArrays(new int[]{1, 3}, new int[]{2});
+        assertArrayEquals(new int[]{1, 2, 3}, drain(merger));
+        assertThrows(NoSuchElementException.class, merger::nextInt);
+    }
+}
@@ -0,0 +1,83 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Тесты для класса MappedFileSort (сортировка файла через отображение в память).
+ */
+class MappedFileSortTest {
+    @TempDir
+    Path dir;
+
+    private void assertSortsFile(ByteOrder order, int[] data) throws IOException {
+        assertSortsFile(new MappedFileSort(order), data);
+    }
+
+    private void assertSortsFile(MappedFileSort sorter, int[] data) throws IOException {
+        ByteOrder order = sorter.getOrder();
+        Path file = dir.resolve("data-" + order + ".bin");
+        ByteBuffer buffer = ByteBuffer.allocate(data.length * Integer.BYTES).order(order);
+        buffer.asIntBuffer().put(data);
+        Files.write(file, buffer.array());
+
+        sorter.sort(file);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        int[] actual = new int[data.length];
+        ByteBuffer.wrap(Files.readAllBytes(file)).order(order).asIntBuffer().get(actual);
+        assertArrayEquals(expected, actual, () -> "Ошибка сортировки файла " + order);
+    }
+
+    /**
+     * Проверяет сортировку файлов в обоих порядках байтов.
+     */
+    @Test
+    void bothByteOrders() throws IOException {
+        int[] data = new Random(90).ints(50_000).toArray();
+        assertSortsFile(ByteOrder.BIG_ENDIAN, data);
+        assertSortsFile(ByteOrder.LITTLE_ENDIAN, data);
+        assertSortsFile(ByteOrder.LITTLE_ENDIAN, new int[0]);
+        assertEquals(ByteOrder.BIG_ENDIAN, new MappedFileSort().getOrder());
+    }
+
+    /**
+     * Проверяет сортировку через несколько окон отображения, в том числе с неполным
+     * последним окном.
+     */
+    @Test
+    void severalWindows() throws IOException {
+        Random random = new Random(91);
+        for (int n : new int[]{15, 16, 17, 100, 1000, 4096}) {
+            assertSortsFile(new MappedFileSort(ByteOrder.LITTLE_ENDIAN, 4),
+                    random.ints(n, -50, 50).toArray());
+        }
+        assertSortsFile(new MappedFileSort(ByteOrder.BIG_ENDIAN, 1), random.ints(33).toArray());
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedFileSort(ByteOrder.BIG_ENDIAN, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedFileSort(ByteOrder.BIG_ENDIAN, 29));
+    }
+
+    /**
+     * Проверяет отказ для файла, размер которого не кратен 4 байтам.
+     */
+    @Test
+    void brokenFile() throws IOException {
+        Path file = dir.resolve("broken.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5});
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileSort().sort(file));
+    }
+}
@@ -0,0 +1,70 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса ParallelHeapSort (параллельная сортировка кучей).
+ */
+class ParallelHeapSortTest {
+
+    /**
+     * Проверяет, что результат совпадает с последовательной сортировкой кучей.
+     */
+    @Test
+    void sameAsHeapSort() {
+        int[] array = new Random(1).ints(100_000).toArray();
+        int[] expected = new Sample().heapSort(array.clone());
+        int[] result = new ParallelHeapSort(1000).sort(array);
+        assertArrayEquals(expected, result, () -> "Ошибка параллельной сортировки");
+    }
+
+    /**
+     * Проверяет сортировку с очень маленьким порогом и повторяющимися значениями.
+     */
+    @Test
+    void tinyThresholdWithDuplicates() {
+        int[] array = new Random(2).ints(5_000, -10, 10).toArray();
+        int[] expected = new Sample().heapSort(array.clone());
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertArrayEquals(expected, new ParallelHeapSort(pool, 1).sort(array));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Проверяет, что короткий массив сортируется на месте без разбиения.
+     */
+    @Test
+    void shortArray() {
+        int[] array = {4, 10, 3, 5, 1};
+        int[] result = new ParallelHeapSort().sort(array);
+        assertSame(array, result);
+        assertArrayEquals(new int[]{1, 3, 4, 5, 10}, result);
+    }
+
+    /**
+     * Проверяет пустой массив.
+     */
+    @Test
+    void emptyArray() {
+        assertArrayEquals(new int[]{}, new ParallelHeapSort(1).sort(new int[]{}));
+    }
+
+    /**
+     * Проверяет проверку порога.
+     */
+    @Test
+    void invalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelHeapSort(0));
+        assertEquals(ParallelHeapSort.DEFAULT_THRESHOLD, new ParallelHeapSort().getThreshold());
+    }
+}
@@ -0,0 +1,73 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Тесты для класса ParallelTopK (параллельный выбор k наибольших).
+ */
+class ParallelTopKTest {
+    @TempDir
+    Path dir;
+
+    /**
+     * Проверяет, что результат по сегментам совпадает с последовательным topK.
+     */
+    @Test
+    void segmentsMatchSample() {
+        Random random = new Random(80);
+        int[][] segments = new int[5][];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = random.ints(random.nextInt(30_000), -1000, 1000).toArray();
+        }
+        int[] all = Stream.of(segments).flatMapToInt(IntStream::of).toArray();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelTopK topK = new ParallelTopK(pool, 1000);
+            for (int k : new int[]{1, 10, 500, 5000, all.length + 10}) {
+                assertArrayEquals(new Sample().topK(all, k), topK.topK(segments, k));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Проверяет выбор из отображённого в память файла.
+     */
+    @Test
+    void file() throws IOException {
+        int[] data = new Random(81).ints(100_000).toArray();
+        Path file = dir.resolve("data.bin");
+        ExternalHeapSortTest.writeInts(file, data);
+        assertArrayEquals(new Sample().topK(data, 100), new ParallelTopK().topK(file, 100));
+    }
+
+    /**
+     * Проверяет пустые данные, k = 0 и некорректные аргументы.
+     */
+    @Test
+    void edgeCases() throws IOException {
+        ParallelTopK topK = new ParallelTopK();
+        assertArrayEquals(new int[0], topK.topK(new int[0], 5));
+        assertArrayEquals(new int[0], topK.topK(new int[]{1, 2, 3}, 0));
+        assertThrows(IllegalArgumentException.class, () -> topK.topK(new int[]{1}, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelTopK(ForkJoinPool.commonPool(), 0));
+
+        Path broken = dir.resolve("broken.bin");
+        Files.write(broken, new byte[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> topK.topK(broken, 1));
+    }
+}
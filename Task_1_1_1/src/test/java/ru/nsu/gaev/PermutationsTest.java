@@ -0,0 +1,98 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса Permutations (перестановка столбцов на месте).
+ */
+class PermutationsTest {
+
+    /**
+     * Проверяет перестановку нескольких столбцов по результату argSort.
+     */
+    @Test
+    void reorderColumnsByKey() {
+        int[] keys = {30, 10, 20, 10};
+        long[] ids = {300L, 100L, 200L, 101L};
+        double[] prices = {3.0, 1.0, 2.0, 1.5};
+        String[] names = {"c", "a", "b", "a2"};
+
+        int[] permutation = new Sample().argSort(keys);
+        assertArrayEquals(new int[]{1, 3, 2, 0}, permutation);
+
+        assertArrayEquals(new int[]{10, 10, 20, 30},
+                Permutations.apply(permutation, keys.clone()));
+        assertArrayEquals(new long[]{100L, 101L, 200L, 300L},
+                Permutations.apply(permutation, ids));
+        assertArrayEquals(new double[]{1.0, 1.5, 2.0, 3.0},
+                Permutations.apply(permutation, prices));
+        assertArrayEquals(new String[]{"a", "a2", "b", "c"},
+                Permutations.apply(permutation, names));
+        assertArrayEquals(new int[]{1, 3, 2, 0}, permutation,
+                () -> "Перестановка не восстановлена");
+    }
+
+    /**
+     * Проверяет остальные примитивные типы на случайной перестановке.
+     */
+    @Test
+    void otherPrimitiveTypes() {
+        int[] keys = new Random(18).ints(500).toArray();
+        int[] permutation = new Sample().argSort(keys);
+        float[] floats = new float[500];
+        short[] shorts = new short[500];
+        char[] chars = new char[500];
+        byte[] bytes = new byte[500];
+        for (int i = 0; i < 500; i++) {
+            floats[i] = i;
+            shorts[i] = (short) i;
+            chars[i] = (char) i;
+            bytes[i] = (byte) i;
+        }
+        Permutations.apply(permutation, floats);
+        Permutations.apply(permutation, shorts);
+        Permutations.apply(permutation, chars);
+        Permutations.apply(permutation, bytes);
+        for (int i = 0; i < 500; i++) {
+            assertEquals(permutation[i], (int) floats[i]);
+            assertEquals(permutation[i], shorts[i]);
+            assertEquals(permutation[i], chars[i]);
+            assertEquals((byte) permutation[i], bytes[i]);
+        }
+    }
+
+    /**
+     * Проверяет несовпадение длин.
+     */
+    @Test
+    void lengthMismatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Permutations.apply(new int[]{0}, new int[2]));
+    }
+
+    /**
+     * Проверяет, что не-перестановка отвергается до того, как столбец изменён.
+     */
+    @Test
+    void invalidPermutation() {
+        int[][] invalid = {{0, 2, 2, 1}, {1, 0, 3, 4}, {0, 1, -1, 2}, {3, 2, 1, 1}};
+        for (int[] permutation : invalid) {
+            int[] column = {10, 20, 30, 40};
+            String[] names = {"a", "b", "c", "d"};
+            int[] copy = permutation.clone();
+            assertThrows(IllegalArgumentException.class,
+                    () -> Permutations.apply(permutation, column));
+            assertThrows(IllegalArgumentException.class,
+                    () -> Permutations.apply(permutation, names));
+            assertArrayEquals(new int[]{10, 20, 30, 40}, column);
+            assertArrayEquals(new String[]{"a", "b", "c", "d"}, names);
+            assertArrayEquals(copy, permutation);
+        }
+        assertArrayEquals(new long[0], Permutations.apply(new int[0], new long[0]));
+    }
+}
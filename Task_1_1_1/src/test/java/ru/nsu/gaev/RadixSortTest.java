@@ -0,0 +1,61 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса RadixSort (поразрядная сортировка).
+ */
+class RadixSortTest {
+
+    private static void assertSorts(int[] array) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, new RadixSort().sort(array),
+                () -> "Ошибка поразрядной сортировки");
+    }
+
+    /**
+     * Проверяет полный диапазон int, включая отрицательные числа.
+     */
+    @Test
+    void fullRange() {
+        assertSorts(new Random(15).ints(100_000).toArray());
+        assertSorts(new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE, -1, 0, 1});
+    }
+
+    /**
+     * Проверяет узкий диапазон со смещением и одинаковые значения.
+     */
+    @Test
+    void narrowRange() {
+        assertSorts(new Random(16).ints(10_000, -1_000_300, -1_000_000).toArray());
+        assertSorts(new int[1000]);
+        assertSorts(new int[]{});
+    }
+
+    /**
+     * Проверяет сортировку участка массива.
+     */
+    @Test
+    void range() {
+        int[] array = {9, 8, 7, -6, 5, 4};
+        new RadixSort().sort(array, 1, 5);
+        assertArrayEquals(new int[]{9, -6, 5, 7, 8, 4}, array);
+    }
+
+    /**
+     * Проверяет подсчёт числа проходов.
+     */
+    @Test
+    void passes() {
+        assertEquals(0, RadixSort.passes(5, 5));
+        assertEquals(1, RadixSort.passes(-10, 245));
+        assertEquals(2, RadixSort.passes(-10, 246));
+        assertEquals(4, RadixSort.passes(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+}
@@ -1,6 +1,11 @@
 package ru.nsu.gaev;
 
 import org.junit.jupiter.api.Test;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
 import java.util.stream.IntStream;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,4 +60,176 @@ class SampleTest {
         ).toArray();
         assertArrayEquals(expected, result, () -> "Ошибка с большим количеством данных");
     }
+
+    @Test
+    void checkLongArray() { // сортировка long без упаковки
+        long[] array = new Random(5).longs(1000).toArray();
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, new Sample().heapSort(array), () -> "Ошибка с массивом long");
+    }
+
+    @Test
+    void checkSmallIntegralArrays() { // short, char и byte
+        short[] shorts = {3, -7, Short.MAX_VALUE, 0, Short.MIN_VALUE};
+        assertArrayEquals(new short[]{Short.MIN_VALUE, -7, 0, 3, Short.MAX_VALUE},
+                new Sample().heapSort(shorts));
+        char[] chars = {'z', 'a', '\uffff', 'm'};
+        assertArrayEquals(new char[]{'a', 'm', 'z', '\uffff'}, new Sample().heapSort(chars));
+        byte[] bytes = {1, -1, Byte.MIN_VALUE, Byte.MAX_VALUE};
+        assertArrayEquals(new byte[]{Byte.MIN_VALUE, -1, 1, Byte.MAX_VALUE},
+                new Sample().heapSort(bytes));
+    }
+
+    @Test
+    void checkDoubleSpecialValues() { // NaN в конце, -0.0 перед 0.0
+        double[] array = {0.0, Double.NaN, -0.0, 1.5, Double.NEGATIVE_INFINITY, -0.0, 0.0,
+            Double.NaN, -2.0, Double.POSITIVE_INFINITY};
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, new Sample().heapSort(array), () -> "Ошибка с NaN и -0.0");
+    }
+
+    @Test
+    void checkFloatSpecialValues() { // NaN в конце, -0.0f перед 0.0f
+        float[] array = {Float.NaN, 0.0f, -0.0f, 3.0f, -0.0f, -1.0f};
+        float[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, new Sample().heapSort(array), () -> "Ошибка с NaN и -0.0f");
+    }
+
+    @Test
+    void checkRandomDoubles() { // случайные значения без особых случаев
+        double[] array = new Random(6).doubles(1000, -1, 1).toArray();
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, new Sample().heapSort(array));
+    }
+
+    @Test
+    void checkRangeSort() { // элементы вне участка не изменяются
+        int[] array = {9, 8, 7, 6, 5, 4, 3};
+        int[] result = new Sample().heapSort(array, 2, 5);
+        assertArrayEquals(new int[]{9, 8, 5, 6, 7, 4, 3}, result, () -> "Ошибка с участком");
+    }
+
+    @Test
+    void checkRangeBounds() { // некорректные границы участка
+        int[] array = new int[5];
+        assertThrows(IllegalArgumentException.class, () -> new Sample().heapSort(array, 3, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> new Sample().heapSort(array, -1, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> new Sample().heapSort(array, 0, 6));
+    }
+
+    @Test
+    void checkTopK() { // k наибольших по убыванию
+        int[] array = new Random(7).ints(10_000).toArray();
+        int[] copy = array.clone();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        int[] result = new Sample().topK(array, 10);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(sorted[sorted.length - 1 - i], result[i]);
+        }
+        assertArrayEquals(copy, array, () -> "Исходный массив изменён");
+    }
+
+    @Test
+    void checkBottomK() { // k наименьших по возрастанию
+        int[] array = new Random(8).ints(10_000, 0, 100).toArray();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(Arrays.copyOf(sorted, 50), new Sample().bottomK(array, 50));
+    }
+
+    @Test
+    void checkTopKBounds() { // k больше длины массива и некорректное k
+        int[] array = {3, 1, 2};
+        assertArrayEquals(new int[]{3, 2, 1}, new Sample().topK(array, 10));
+        assertArrayEquals(new int[]{}, new Sample().bottomK(array, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Sample().topK(array, -1));
+    }
+
+    @Test
+    void checkArgSort() { // перестановка упорядочивает ключи, равные ключи по индексу
+        int[] keys = new Random(19).ints(2000, 0, 50).toArray();
+        int[] copy = keys.clone();
+        int[] permutation = new Sample().argSort(keys);
+        assertArrayEquals(copy, keys, () -> "Ключи изменены");
+        for (int i = 1; i < permutation.length; i++) {
+            int previous = permutation[i - 1];
+            int current = permutation[i];
+            assertTrue(keys[previous] < keys[current]
+                    || keys[previous] == keys[current] && previous < current);
+        }
+    }
+
+    @Test
+    void checkSortedIterator() { // ленивое извлечение по возрастанию
+        int[] array = new Random(24).ints(5_000).toArray();
+        int[] copy = array.clone();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        PrimitiveIterator.OfInt iterator = new Sample().sortedIterator(array);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(sorted[i], iterator.nextInt());
+        }
+        assertArrayEquals(copy, array, () -> "Исходный массив изменён");
+
+        PrimitiveIterator.OfInt small = new Sample().sortedIterator(new int[]{2, -1, 2, 0});
+        int[] all = new int[4];
+        for (int i = 0; small.hasNext(); i++) {
+            all[i] = small.nextInt();
+        }
+        assertArrayEquals(new int[]{-1, 0, 2, 2}, all);
+        PrimitiveIterator.OfInt empty = new Sample().sortedIterator(new int[0]);
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, empty::nextInt);
+    }
+
+    @Test
+    void checkIntBuffer() { // сортировка оставшейся части буфера на месте
+        int[] array = new Random(25).ints(1000).toArray();
+        IntBuffer buffer = IntBuffer.wrap(array.clone());
+        buffer.position(100).limit(900);
+        new Sample().heapSort(buffer);
+        assertEquals(100, buffer.position());
+        assertEquals(900, buffer.limit());
+
+        int[] expected = array.clone();
+        Arrays.sort(expected, 100, 900);
+        assertArrayEquals(expected, buffer.array());
+    }
+
+    @Test
+    void checkHeapSortByKey() { // ключ вызывается n раз, порядок равных ключей сохраняется
+        String[] words = {"pear", "fig", "banana", "kiwi", "apple", "plum", "date"};
+        int[] calls = new int[1];
+        String[] sorted = new Sample().heapSortByKey(words, word -> {
+            calls[0]++;
+            return word.length();
+        });
+        assertSame(words, sorted);
+        assertEquals(7, calls[0]);
+        assertArrayEquals(new String[]{"fig", "pear", "kiwi", "plum", "date", "apple", "banana"},
+                words);
+
+        Long[] values = {5_000_000_000L, -1L, 3L, Long.MIN_VALUE};
+        new Sample().heapSortByLongKey(values, Long::longValue);
+        assertArrayEquals(new Long[]{Long.MIN_VALUE, -1L, 3L, 5_000_000_000L}, values);
+    }
+
+    @Test
+    void checkArgSortLong() { // перестановка упорядочивает ключи long
+        long[] keys = new Random(26).longs(1000, -5, 5).toArray();
+        int[] permutation = new Sample().argSort(keys);
+        for (int i = 1; i < permutation.length; i++) {
+            int previous = permutation[i - 1];
+            int current = permutation[i];
+            assertTrue(keys[previous] < keys[current]
+                    || keys[previous] == keys[current] && previous < current);
+        }
+    }
 }
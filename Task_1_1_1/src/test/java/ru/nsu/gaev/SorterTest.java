@@ -0,0 +1,50 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса Sorter (фасад с автоматическим выбором алгоритма).
+ */
+class SorterTest {
+
+    private static void assertSorts(Sorter sorter, int[] array) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorter.sort(array), () -> "Ошибка фасада сортировки");
+    }
+
+    /**
+     * Проверяет все ветви выбора алгоритма на разных длинах и диапазонах.
+     */
+    @Test
+    void allBranches() {
+        Sorter sorter = new Sorter();
+        Random random = new Random(17);
+        assertSorts(sorter, random.ints(10).toArray());
+        assertSorts(sorter, random.ints(1000).toArray());
+        assertSorts(sorter, random.ints(1000, 0, 1000).toArray());
+        assertSorts(sorter, random.ints(100_000).toArray());
+    }
+
+    /**
+     * Проверяет пользовательские пороги и участок массива.
+     */
+    @Test
+    void customThresholds() {
+        Sorter sorter = new Sorter(0, 1_000_000, 1_000_000);
+        assertEquals(0, sorter.getInsertionThreshold());
+        assertEquals(1_000_000, sorter.getRadixThreshold());
+        assertEquals(1_000_000, sorter.getNarrowRadixThreshold());
+
+        int[] array = {5, 4, 3, 2, 1};
+        sorter.sort(array, 1, 4);
+        assertArrayEquals(new int[]{5, 2, 3, 4, 1}, array);
+        assertThrows(IllegalArgumentException.class, () -> new Sorter(-1, 0, 0));
+    }
+}
@@ -0,0 +1,124 @@
+package ru.nsu.gaev;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Векторная реализация {@link BlockSorter} на Vector API (jdk.incubator.vector).
+ * Каждая строка блока — один 256-битный вектор из восьми int, компаратор сети —
+ * пара инструкций min/max над векторами, так что вся сеть выполняется без ветвлений.
+ * Класс компилируется отдельно с модулем jdk.incubator.vector и загружается
+ * из {@link BitonicSort} по имени только тогда, когда модуль доступен.
+ */
+final class VectorBlockSorter implements BlockSorter {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+
+    /**
+     * Проверяет, что процессор поддерживает векторы нужной ширины аппаратно.
+     *
+     * @return true, если 256-битные векторы не эмулируются
+     */
+    static boolean isSupported() {
+        return IntVector.SPECIES_PREFERRED.vectorBitSize() >= SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public void sortColumns(int[] array, int offset) {
+        IntVector v0 = IntVector.fromArray(SPECIES, array, offset);
+        IntVector v1 = IntVector.fromArray(SPECIES, array, offset + 8);
+        IntVector v2 = IntVector.fromArray(SPECIES, array, offset + 16);
+        IntVector v3 = IntVector.fromArray(SPECIES, array, offset + 24);
+        IntVector v4 = IntVector.fromArray(SPECIES, array, offset + 32);
+        IntVector v5 = IntVector.fromArray(SPECIES, array, offset + 40);
+        IntVector v6 = IntVector.fromArray(SPECIES, array, offset + 48);
+        IntVector v7 = IntVector.fromArray(SPECIES, array, offset + 56);
+        IntVector lo;
+
+        // Шаг 1: пары
+        lo = v0.min(v1);
+        v1 = v0.max(v1);
+        v0 = lo;
+        lo = v2.min(v3);
+        v3 = v2.max(v3);
+        v2 = lo;
+        lo = v4.min(v5);
+        v5 = v4.max(v5);
+        v4 = lo;
+        lo = v6.min(v7);
+        v7 = v6.max(v7);
+        v6 = lo;
+
+        // Шаг 2: четвёрки (отражение и полуочиститель)
+        lo = v0.min(v3);
+        v3 = v0.max(v3);
+        v0 = lo;
+        lo = v1.min(v2);
+        v2 = v1.max(v2);
+        v1 = lo;
+        lo = v4.min(v7);
+        v7 = v4.max(v7);
+        v4 = lo;
+        lo = v5.min(v6);
+        v6 = v5.max(v6);
+        v5 = lo;
+        lo = v0.min(v1);
+        v1 = v0.max(v1);
+        v0 = lo;
+        lo = v2.min(v3);
+        v3 = v2.max(v3);
+        v2 = lo;
+        lo = v4.min(v5);
+        v5 = v4.max(v5);
+        v4 = lo;
+        lo = v6.min(v7);
+        v7 = v6.max(v7);
+        v6 = lo;
+
+        // Шаг 3: восьмёрки (отражение и два полуочистителя)
+        lo = v0.min(v7);
+        v7 = v0.max(v7);
+        v0 = lo;
+        lo = v1.min(v6);
+        v6 = v1.max(v6);
+        v1 = lo;
+        lo = v2.min(v5);
+        v5 = v2.max(v5);
+        v2 = lo;
+        lo = v3.min(v4);
+        v4 = v3.max(v4);
+        v3 = lo;
+        lo = v0.min(v2);
+        v2 = v0.max(v2);
+        v0 = lo;
+        lo = v1.min(v3);
+        v3 = v1.max(v3);
+        v1 = lo;
+        lo = v4.min(v6);
+        v6 = v4.max(v6);
+        v4 = lo;
+        lo = v5.min(v7);
+        v7 = v5.max(v7);
+        v5 = lo;
+        lo = v0.min(v1);
+        v1 = v0.max(v1);
+        v0 = lo;
+        lo = v2.min(v3);
+        v3 = v2.max(v3);
+        v2 = lo;
+        lo = v4.min(v5);
+        v5 = v4.max(v5);
+        v4 = lo;
+        lo = v6.min(v7);
+        v7 = v6.max(v7);
+        v6 = lo;
+
+        v0.intoArray(array, offset);
+        v1.intoArray(array, offset + 8);
+        v2.intoArray(array, offset + 16);
+        v3.intoArray(array, offset + 24);
+        v4.intoArray(array, offset + 32);
+        v5.intoArray(array, offset + 40);
+        v6.intoArray(array, offset + 48);
+        v7.intoArray(array, offset + 56);
+    }
+}
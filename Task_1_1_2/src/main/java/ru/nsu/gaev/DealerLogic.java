@@ -27,6 +27,15 @@ public class DealerLogic extends Participant {
         return new ArrayList<>(List.of(hand.get(0)));
     }
 
+    /**
+     * Правило дилера: брать карту, пока на руке меньше 17 очков.
+     *
+     * @return true, если дилер должен взять ещё одну карту
+     */
+    public boolean shouldHit() {
+        return getScore() < 17;
+    }
+
     /**
      * Ход дилера по правилам игры. Дилер продолжает брать карты,
      * пока не наберет минимум 17 очков.
@@ -34,7 +43,7 @@ public class DealerLogic extends Participant {
     public void dealerTurn() {
         message.cardsMessage(hand, getScore(), "Dealer");
 
-        while (getScore() < 17) {
+        while (shouldHit()) {
             String newCard = deck.drawCard();
             addCard(newCard);
             message.newCardsMessage(newCard, "Dealer");
@@ -0,0 +1,252 @@
+package ru.nsu.gaev;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Точные вероятности итоговой суммы дилера методом динамического программирования.
+ *
+ * <p>Дилер играет по фиксированному правилу {@link DealerLogic#shouldHit()} (брать
+ * до 17, мягкие 17 тоже стоят), поэтому распределение его итога зависит только
+ * от открытой карты и состава башмака. Вероятности считаются рекурсией по добору
+ * с точным удалением вытянутых карт из состава; распределение каждого промежуточного
+ * состояния запоминается по набору уже вытянутых карт (сумма и туз им определяются),
+ * поэтому одно состояние, достигнутое разными порядками карт, считается один раз.
+ * Если башмак закончился раньше, чем дилер набрал 17, дилер стоит на текущей сумме —
+ * такие итоги ниже 17 тоже входят в результат, и вероятности всегда дают в сумме 1.
+ * Результаты кэшируются по составу башмака: для каждого состава хранится таблица
+ * по всем открытым картам, так что повторный запрос — это поиск в таблице.
+ * Строки таблицы публикуются через {@link AtomicReferenceArray}, поэтому экземпляр
+ * можно вызывать из нескольких потоков. Кэш ограничен {@code maxCacheSize} составами:
+ * при переполнении он очищается целиком; освободить его раньше можно через
+ * {@link #clearCache()} или отпустив сам экземпляр.
+ *
+ * <p>Состав задаётся массивом из 10 счётчиков по значениям карт, как в
+ * {@link Deck#getRemainingByValue()}: элемент v - 2 — число карт со значением v,
+ * где 11 — туз. Открытая карта дилера в составе уже не учитывается. Число колод
+ * не ограничено: ключ кэша — сам состав.
+ */
+public class DealerProbabilities {
+    /**
+     * Индекс вероятности перебора в результате; индекс t &lt;= 21 — вероятность
+     * остановиться на сумме t (ниже 17 — только если башмак закончился).
+     */
+    public static final int BUST = 22;
+
+    /**
+     * Длина массива результата: итоги 0..21 и перебор.
+     */
+    public static final int RESULT_SIZE = BUST + 1;
+
+    /**
+     * Наибольшее число составов в кэше по умолчанию.
+     */
+    public static final int DEFAULT_MAX_CACHE_SIZE = 1 << 16;
+
+    private static final int VALUES = 10;
+
+    /**
+     * Бит на счётчик вытянутых карт одного значения в ключе промежуточного состояния:
+     * дилер останавливается раньше, чем вытянет 32 карты одного значения.
+     */
+    private static final int DRAWN_BITS = 5;
+
+    /**
+     * Распределения конечных состояний: остановка на сумме t и перебор.
+     */
+    private static final double[][] STANDS = new double[RESULT_SIZE][];
+
+    static {
+        for (int total = 0; total < RESULT_SIZE; total++) {
+            STANDS[total] = new double[RESULT_SIZE];
+            STANDS[total][total] = 1;
+        }
+    }
+
+    private final Map<Composition, AtomicReferenceArray<double[]>> cache =
+            new ConcurrentHashMap<>();
+    private final int maxCacheSize;
+
+    /**
+     * Создаёт расчёт с размером кэша по умолчанию.
+     */
+    public DealerProbabilities() {
+        this(DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    /**
+     * Создаёт расчёт с заданным размером кэша.
+     *
+     * @param maxCacheSize наибольшее число составов в кэше
+     * @throws IllegalArgumentException если размер кэша меньше 1
+     */
+    public DealerProbabilities(int maxCacheSize) {
+        if (maxCacheSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxCacheSize);
+        }
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Возвращает состав полного башмака из нескольких колод.
+     *
+     * @param countDecks количество колод
+     * @return счётчики карт по значениям 2..11
+     */
+    public static int[] fullShoe(int countDecks) {
+        int[] counts = new int[VALUES];
+        for (int value = 2; value <= 11; value++) {
+            counts[value - 2] = (value == 10 ? 16 : 4) * countDecks;
+        }
+        return counts;
+    }
+
+    /**
+     * Вычисляет распределение итоговой суммы дилера.
+     *
+     * @param composition состав башмака без открытой карты дилера (не изменяется)
+     * @param upCard значение открытой карты дилера: от 2 до 11 (туз)
+     * @return массив из {@link #RESULT_SIZE} вероятностей: элемент t — остановка
+     *         на сумме t, элемент {@link #BUST} — перебор
+     * @throws IllegalArgumentException если значение карты или состав некорректны
+     */
+    public double[] finalTotals(int[] composition, int upCard) {
+        if (upCard < 2 || upCard > 11) {
+            throw new IllegalArgumentException("Card value must be in [2, 11]: " + upCard);
+        }
+        Composition key = new Composition(composition);
+        AtomicReferenceArray<double[]> table = cache.get(key);
+        if (table == null) {
+            if (cache.size() >= maxCacheSize) {
+                cache.clear();
+            }
+            table = cache.computeIfAbsent(key, k -> new AtomicReferenceArray<>(VALUES));
+        }
+        double[] row = table.get(upCard - 2);
+        if (row == null) {
+            // Строка заполняется до записи в массив, а запись видна другим потокам
+            // вместе с содержимым; одновременный расчёт лишь повторит ту же работу
+            row = compute(composition, upCard);
+            table.set(upCard - 2, row);
+        }
+        return row.clone();
+    }
+
+    /**
+     * Вычисляет распределение итоговой суммы дилера для полного башмака,
+     * из которого вынута только открытая карта.
+     *
+     * @param countDecks количество колод
+     * @param upCard значение открытой карты дилера: от 2 до 11 (туз)
+     * @return массив вероятностей, как в {@link #finalTotals(int[], int)}
+     */
+    public double[] finalTotals(int countDecks, int upCard) {
+        int[] composition = fullShoe(countDecks);
+        if (upCard >= 2 && upCard <= 11) {
+            composition[upCard - 2]--;
+        }
+        return finalTotals(composition, upCard);
+    }
+
+    /**
+     * Возвращает число составов башмака в кэше.
+     *
+     * @return размер кэша
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Очищает кэш составов.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private static double[] compute(int[] composition, int upCard) {
+        int[] counts = composition.clone();
+        int remaining = 0;
+        for (int count : counts) {
+            remaining += count;
+        }
+        return play(counts, remaining, upCard == 11 ? 1 : upCard, upCard == 11, 0,
+                new HashMap<>());
+    }
+
+    /**
+     * Возвращает распределение итога дилера из руки с «жёсткой» суммой hard (тузы по 1).
+     * Возвращаемые массивы общие для состояний и не изменяются.
+     *
+     * @param drawn вытянутые после открытой карты карты: по {@link #DRAWN_BITS} бит
+     *              на значение; вместе с открытой картой определяет всё состояние
+     * @param memo распределения уже посчитанных состояний этого расчёта
+     */
+    private static double[] play(int[] counts, int remaining, int hard, boolean ace,
+                                 long drawn, Map<Long, double[]> memo) {
+        int score = ace && hard + 10 <= 21 ? hard + 10 : hard;
+        if (score > 21) {
+            return STANDS[BUST];
+        }
+        if (score >= 17 || remaining == 0) {
+            return STANDS[score];
+        }
+        double[] result = memo.get(drawn);
+        if (result != null) {
+            return result;
+        }
+        result = new double[RESULT_SIZE];
+        for (int i = 0; i < VALUES; i++) {
+            int count = counts[i];
+            if (count == 0) {
+                continue;
+            }
+            int value = i + 2;
+            counts[i]--;
+            double[] next = play(counts, remaining - 1, hard + (value == 11 ? 1 : value),
+                    ace || value == 11, drawn + (1L << DRAWN_BITS * i), memo);
+            counts[i]++;
+            double probability = (double) count / remaining;
+            for (int total = 0; total < RESULT_SIZE; total++) {
+                result[total] += probability * next[total];
+            }
+        }
+        memo.put(drawn, result);
+        return result;
+    }
+
+    /**
+     * Ключ кэша: копия состава башмака с заранее посчитанным хэшем.
+     */
+    private static final class Composition {
+        private final int[] counts;
+        private final int hash;
+
+        Composition(int[] composition) {
+            if (composition.length != VALUES) {
+                throw new IllegalArgumentException("Composition must have 10 counts");
+            }
+            for (int count : composition) {
+                if (count < 0) {
+                    throw new IllegalArgumentException("Card count out of range: " + count);
+                }
+            }
+            this.counts = composition.clone();
+            this.hash = Arrays.hashCode(counts);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Composition
+                    && Arrays.equals(counts, ((Composition) other).counts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
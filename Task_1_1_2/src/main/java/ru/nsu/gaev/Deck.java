@@ -1,14 +1,42 @@
 package ru.nsu.gaev;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Класс, реализующий колоду карт для игры Blackjack.
+ *
+ * <p>Карты хранятся в виде кодов в массиве byte: код карты равен
+ * {@code rank.ordinal() * 4 + suit.ordinal()}. Взятие карты сдвигает курсор
+ * (O(1) вместо удаления из начала списка), а значение и строковое имя карты
+ * берутся из заранее построенных таблиц, поэтому игра по кодам не выделяет память.
+ * Строки вида "10H" нужны только для вывода и возвращаются готовыми из таблицы.
+ * Число оставшихся карт каждого значения поддерживается при взятии и сбросе,
+ * поэтому состав колоды узнаётся за O(1) без перебора и выделения памяти.
  */
 public class Deck {
-    private final ArrayList<String> cards = new ArrayList<>();
+    private static final int SUITS = Suit.values().length;
+    private static final int CARDS_IN_DECK = SUITS * Rank.values().length;
+    private static final int[] VALUES = new int[CARDS_IN_DECK];
+    private static final String[] NAMES = new String[CARDS_IN_DECK];
+
+    private static final int CARD_VALUES = 10;
+
+    private final byte[] cards;
+    private final int[] remainingByValue = new int[CARD_VALUES];
+    private final Random random;
+    private int cursor;
+
+    static {
+        for (Rank rank : Rank.values()) {
+            for (Suit suit : Suit.values()) {
+                int code = rank.ordinal() * SUITS + suit.ordinal();
+                // Формируем имя карты в виде строки: "2H", "KS" и т. д.
+                NAMES[code] = rank.getSymbol() + suit.getSymbol();
+                VALUES[code] = getCardValue(NAMES[code]);
+            }
+        }
+    }
 
     /**
      * Перечисление для мастей карт.
@@ -49,23 +77,56 @@ public class Deck {
 
     /**
      * Конструктор колоды. Заполняет колоду карт в зависимости от количества колод.
-     * Каждая карта представлена как строка, состоящая из ранга и масти.
+     * Каждая карта хранится как байтовый код ранга и масти, строковое имя
+     * берётся из таблицы при вытягивании.
      * После инициализации колода перетасовывается.
      *
      * @param countDecks количество колод, которые будут использованы в игре.
+     * @throws IllegalArgumentException если количество колод отрицательно.
      */
     public Deck(int countDecks) {
-        // Перебираем количество колод
-        for (int i = 0; i < countDecks; i++) {
-            // Перебираем масти и ранги
-            for (Suit suit : Suit.values()) {
-                for (Rank rank : Rank.values()) {
-                    // Формируем карту в виде строки: "2H", "KS" и т. д.
-                    cards.add(rank.getSymbol() + suit.getSymbol());
-                }
-            }
+        this(countDecks, new Random());
+    }
+
+    /**
+     * Конструктор колоды с заданным генератором случайных чисел для тасования.
+     * Позволяет каждому потоку симуляции держать свой независимый башмак
+     * и воспроизводить раздачи по зерну генератора.
+     *
+     * @param countDecks количество колод, которые будут использованы в игре.
+     * @param random генератор для перетасовки колоды.
+     * @throws IllegalArgumentException если количество колод отрицательно.
+     */
+    public Deck(int countDecks, Random random) {
+        if (countDecks < 0) {
+            throw new IllegalArgumentException("Number of decks must be non-negative: "
+                    + countDecks);
+        }
+        this.random = random;
+        this.cards = new byte[countDecks * CARDS_IN_DECK];
+        // Каждая колода содержит все коды карт по одному разу
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % CARDS_IN_DECK);
+        }
+        reset();
+    }
+
+    /**
+     * Возвращает все карты в колоду и перетасовывает её заново (алгоритм Фишера–Йетса)
+     * без выделения памяти.
+     */
+    public void reset() {
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+        cursor = 0;
+        int countDecks = cards.length / CARDS_IN_DECK;
+        for (int value = 2; value <= 11; value++) {
+            remainingByValue[value - 2] = (value == 10 ? 4 * SUITS : SUITS) * countDecks;
         }
-        Collections.shuffle(cards); // Перетасовываем колоду
     }
 
     /**
@@ -76,18 +137,90 @@ public class Deck {
      * @throws IllegalStateException если колода пуста.
      */
     public String drawCard() {
-        return cards.remove(0);  // Удаляем и возвращаем первую карту из колоды
+        return NAMES[drawCode()];
+    }
+
+    /**
+     * Вытягивает одну карту из колоды в виде кода.
+     *
+     * @return код карты: {@code rank.ordinal() * 4 + suit.ordinal()}
+     * @throws IllegalStateException если колода пуста.
+     */
+    public byte drawCode() {
+        if (cursor == cards.length) {
+            throw new IllegalStateException("Deck is empty");
+        }
+        byte code = cards[cursor++];
+        remainingByValue[VALUES[code] - 2]--;
+        return code;
+    }
+
+    /**
+     * Возвращает значение карты по её коду без разбора строки.
+     *
+     * @param code код карты
+     * @return значение карты (например, 2, 10, 11).
+     */
+    public static int getCardValue(byte code) {
+        return VALUES[code];
+    }
+
+    /**
+     * Возвращает строковое имя карты по её коду для вывода.
+     *
+     * @param code код карты
+     * @return строка вида "10H"
+     */
+    public static String getCardName(byte code) {
+        return NAMES[code];
     }
 
     /**
      * Возвращает количество оставшихся карт в колоде.
      * Метод не изменяет содержимое колоды, а только
-     * сообщает текущее количество элементов в списке {@code cards}.
+     * сообщает, сколько карт осталось за курсором.
      *
      * @return число карт, которые сейчас находятся в колоде
      */
     public int getCardsCount() {
-        return cards.size();
+        return cards.length - cursor;
+    }
+
+    /**
+     * Возвращает копию счётчиков оставшихся в колоде карт по значениям.
+     *
+     * @return новый массив из 10 элементов: элемент v - 2 — число карт со значением v
+     *         (от 2 до 11, где 11 — туз)
+     */
+    public int[] getRemainingByValue() {
+        return remainingByValue.clone();
+    }
+
+    /**
+     * Копирует счётчики оставшихся карт по значениям в массив вызывающего
+     * без выделения памяти.
+     *
+     * @param counts массив не короче 10 элементов; элемент v - 2 получает число карт
+     *               со значением v
+     * @return тот же массив counts
+     */
+    public int[] getRemainingByValue(int[] counts) {
+        System.arraycopy(remainingByValue, 0, counts, 0, CARD_VALUES);
+        return counts;
+    }
+
+    /**
+     * Возвращает число оставшихся в колоде карт с заданным значением за O(1).
+     *
+     * @param value значение карты: от 2 до 11 (туз)
+     * @return число таких карт за курсором
+     * @throws IllegalArgumentException если значение вне диапазона
+     */
+    public int getRemainingOfValue(int value) {
+        if (value < 2 || value > 11) {
+            throw new IllegalArgumentException("Card value must be in [2, 11]: " + value);
+        }
+        return remainingByValue[value - 2];
     }
 
     /**
@@ -98,11 +231,11 @@ public class Deck {
      * @return значение карты (например, 2, 10, 11).
      */
     public static int getCardValue(String card) {
-        String rank = card.substring(0, card.length() - 1);  // Извлекаем ранг карты
-        return switch (rank) {
-            case "J", "Q", "K" -> 10;  // Карты с изображением имеют значение 10
-            case "A" -> 11;  // Туз имеет значение 11
-            default -> Integer.parseInt(rank);  // Для всех других карт возвращаем их числовое значение
+        // Ранг определяется по первому символу, без выделения подстроки
+        return switch (card.charAt(0)) {
+            case '1', 'J', 'Q', 'K' -> 10;  // "10" и карты с изображением имеют значение 10
+            case 'A' -> 11;  // Туз имеет значение 11
+            default -> card.charAt(0) - '0';  // Для остальных карт значение равно цифре
         };
     }
 
@@ -118,7 +251,8 @@ public class Deck {
         int aces = 0;  // Количество тузов
 
         // Проходим по картам в руке
-        for (String card : hand) {
+        for (int i = 0; i < hand.size(); i++) {
+            String card = hand.get(i);
             int value = getCardValue(card);  // Получаем значение карты
             total += value;
             if (card.startsWith("A")) {  // Если карта - туз
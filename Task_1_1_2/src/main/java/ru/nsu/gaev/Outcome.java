@@ -0,0 +1,21 @@
+package ru.nsu.gaev;
+
+/**
+ * Исход раунда Blackjack с точки зрения игрока.
+ */
+public enum Outcome {
+    /**
+     * Игрок выиграл.
+     */
+    PLAYER_WIN,
+
+    /**
+     * Дилер выиграл.
+     */
+    DEALER_WIN,
+
+    /**
+     * Ничья: ставка возвращается.
+     */
+    PUSH
+}
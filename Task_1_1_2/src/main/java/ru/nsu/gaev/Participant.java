@@ -6,22 +6,84 @@ import java.util.List;
 /**
  * Базовый абстрактный класс для участников игры (игрок и дилер).
  * Содержит общие поля и поведение: рука, колода и простые операции над рукой.
+ *
+ * <p>Очки руки считаются инкрементально: при добавлении карты обновляются
+ * «жёсткая» сумма (все тузы по 1) и число тузов, поэтому {@link #getScore()}
+ * работает за O(1) и не разбирает карты заново.
  */
 public abstract class Participant {
     protected final List<String> hand = new ArrayList<>();
     protected final Deck deck;
     protected final MessageConsole message = new MessageConsole();
+    private int hardTotal;
+    private int aces;
 
     protected Participant(Deck deck) {
         this.deck = deck;
     }
 
+    /**
+     * Добавляет карту в руку и обновляет сумму очков.
+     *
+     * @param card карта в виде строки (например, "AH")
+     */
     public void addCard(String card) {
         hand.add(card);
+        int value = Deck.getCardValue(card);
+        if (value == 11) {
+            aces++;
+            hardTotal += 1;
+        } else {
+            hardTotal += value;
+        }
     }
 
+    /**
+     * Берёт карту из своей колоды и добавляет её в руку.
+     *
+     * @return взятая карта
+     */
+    public String hit() {
+        String card = deck.drawCard();
+        addCard(card);
+        return card;
+    }
+
+    /**
+     * Сбрасывает руку, сохраняя выделенную под неё память (для повторных раундов).
+     */
+    public void clearHand() {
+        hand.clear();
+        hardTotal = 0;
+        aces = 0;
+    }
+
+    /**
+     * Возвращает сумму очков руки: один туз считается за 11, если это не даёт перебора.
+     * Совпадает с {@link Deck#calculateHandValue(List)}.
+     *
+     * @return сумма очков
+     */
     public int getScore() {
-        return Deck.calculateHandValue(hand);
+        return isSoft() ? hardTotal + 10 : hardTotal;
+    }
+
+    /**
+     * Возвращает «жёсткую» сумму, в которой все тузы считаются за 1.
+     *
+     * @return сумма очков без учёта тузов по 11
+     */
+    public int getHardTotal() {
+        return hardTotal;
+    }
+
+    /**
+     * Проверяет, «мягкая» ли рука, то есть считается ли в ней туз за 11.
+     *
+     * @return true, если туз можно считать за 11 без перебора
+     */
+    public boolean isSoft() {
+        return aces > 0 && hardTotal + 10 <= 21;
     }
 
     public List<String> getHand() {
@@ -49,4 +49,17 @@ public class PlayerLogic extends Participant {
             }
         }
     }
+
+    /**
+     * Ход игрока-бота по таблице стратегии: без ввода и вывода сообщений.
+     * Бот берёт карты, пока таблица велит брать и сумма меньше 21.
+     *
+     * @param table таблица стратегии
+     * @param dealerUpCard значение открытой карты дилера: от 2 до 11 (туз)
+     */
+    public void botTurn(StrategyTable table, int dealerUpCard) {
+        while (getScore() < 21 && table.shouldHit(getScore(), isSoft(), dealerUpCard)) {
+            hit();
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package ru.nsu.gaev;
+
+/**
+ * Итог симуляции: число исходов каждого вида, доли с доверительными интервалами
+ * и скорость в раундах в секунду.
+ */
+public final class SimulationResult {
+    /**
+     * Квантиль нормального распределения для 95% доверительного интервала.
+     */
+    private static final double Z_95 = 1.959964;
+
+    private final long[] counts;
+    private final long rounds;
+    private final long elapsedNanos;
+
+    /**
+     * Создаёт результат по числу исходов.
+     *
+     * @param counts число раундов с каждым исходом, по порядку {@link Outcome#values()}
+     * @param elapsedNanos время симуляции в наносекундах
+     */
+    public SimulationResult(long[] counts, long elapsedNanos) {
+        this.counts = counts.clone();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        this.rounds = total;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Возвращает число сыгранных раундов.
+     *
+     * @return количество раундов
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Возвращает время симуляции.
+     *
+     * @return затраченное время в наносекундах
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Возвращает число раундов с заданным исходом.
+     *
+     * @param outcome исход
+     * @return число раундов
+     */
+    public long getCount(Outcome outcome) {
+        return counts[outcome.ordinal()];
+    }
+
+    /**
+     * Возвращает долю раундов с заданным исходом.
+     *
+     * @param outcome исход
+     * @return доля от 0 до 1 (0, если раундов не было)
+     */
+    public double getRate(Outcome outcome) {
+        return rounds == 0 ? 0 : (double) getCount(outcome) / rounds;
+    }
+
+    /**
+     * Возвращает полуширину 95% доверительного интервала доли исхода
+     * (нормальное приближение биномиального распределения).
+     *
+     * @param outcome исход
+     * @return величина h, для которой интервал равен [rate - h, rate + h]
+     */
+    public double getConfidenceHalfWidth(Outcome outcome) {
+        if (rounds == 0) {
+            return 0;
+        }
+        double rate = getRate(outcome);
+        return Z_95 * Math.sqrt(rate * (1 - rate) / rounds);
+    }
+
+    /**
+     * Возвращает средний выигрыш игрока на раунд при ставке 1 и выплате 1:1
+     * (отрицательное значение — преимущество казино).
+     *
+     * @return (выигрыши - проигрыши) / раунды
+     */
+    public double getPlayerEdge() {
+        if (rounds == 0) {
+            return 0;
+        }
+        return (double) (getCount(Outcome.PLAYER_WIN) - getCount(Outcome.DEALER_WIN)) / rounds;
+    }
+
+    /**
+     * Возвращает скорость симуляции.
+     *
+     * @return число раундов в секунду
+     */
+    public double getRoundsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rounds * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("rounds=").append(rounds);
+        for (Outcome outcome : Outcome.values()) {
+            builder.append(String.format(" %s=%.4f±%.4f", outcome, getRate(outcome),
+                    getConfidenceHalfWidth(outcome)));
+        }
+        builder.append(String.format(" edge=%.4f rounds/s=%.0f", getPlayerEdge(),
+                getRoundsPerSecond()));
+        return builder.toString();
+    }
+}
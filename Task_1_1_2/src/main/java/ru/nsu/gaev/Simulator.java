@@ -0,0 +1,188 @@
+package ru.nsu.gaev;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Консольно-независимый симулятор Blackjack методом Монте-Карло.
+ *
+ * <p>Раунд разыгрывается теми же классами, что и в интерактивной игре
+ * ({@link Deck}, {@link PlayerLogic}, {@link DealerLogic}), но без {@link java.util.Scanner}
+ * и вывода сообщений: игрок добирает карты по простому правилу «брать, пока меньше
+ * {@code playerStandsOn}», дилер — по своему правилу {@link DealerLogic#shouldHit()}.
+ * Итог раунда определяется так же, как в {@link GameLogic#startRound}.
+ *
+ * <p>Раунды делятся поровну между потоками; у каждого потока свой башмак со своим
+ * генератором, поэтому потоки не разделяют состояния, а результат воспроизводим
+ * по зерну. Башмак перетасовывается на месте ({@link Deck#reset()}), когда в нём
+ * остаётся меньше {@link #RESHUFFLE_CARDS} карт. Башмак и участники создаются
+ * один раз на поток, так что сам раунд не выделяет памяти.
+ */
+public class Simulator {
+    /**
+     * Порог игрока по умолчанию: как у дилера, брать карты до 17 очков.
+     */
+    public static final int DEFAULT_PLAYER_STANDS_ON = 17;
+
+    /**
+     * Число оставшихся карт, при котором башмак перетасовывается.
+     */
+    public static final int RESHUFFLE_CARDS = 26;
+
+    /**
+     * Наименьший порог игрока: сумма наименьшей руки из двух карт (2 + 2),
+     * при нём игрок никогда не берёт карт.
+     */
+    public static final int MIN_PLAYER_STANDS_ON = 4;
+
+    /**
+     * Наибольший порог игрока: при 21 раунд заканчивается сам.
+     */
+    public static final int MAX_PLAYER_STANDS_ON = 21;
+
+    private final int countDecks;
+    private final int playerStandsOn;
+    private final int threads;
+
+    /**
+     * Создаёт симулятор с порогом игрока по умолчанию на всех ядрах.
+     *
+     * @param countDecks количество колод в башмаке
+     */
+    public Simulator(int countDecks) {
+        this(countDecks, DEFAULT_PLAYER_STANDS_ON, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Создаёт симулятор.
+     *
+     * @param countDecks количество колод в башмаке
+     * @param playerStandsOn число очков, на котором игрок перестаёт брать карты
+     * @param threads количество потоков
+     * @throws IllegalArgumentException если колод или потоков меньше одного
+     *                                  или порог игрока не из диапазона [4, 21]
+     */
+    public Simulator(int countDecks, int playerStandsOn, int threads) {
+        if (countDecks < 1) {
+            throw new IllegalArgumentException("Number of decks must be positive: " + countDecks);
+        }
+        if (playerStandsOn < MIN_PLAYER_STANDS_ON || playerStandsOn > MAX_PLAYER_STANDS_ON) {
+            throw new IllegalArgumentException("Player threshold must be in [4, 21]: "
+                    + playerStandsOn);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+        }
+        this.countDecks = countDecks;
+        this.playerStandsOn = playerStandsOn;
+        this.threads = threads;
+    }
+
+    /**
+     * Разыгрывает заданное число раундов на всех потоках.
+     *
+     * @param rounds количество раундов
+     * @param seed зерно генераторов (у каждого потока своё, производное от него)
+     * @return итог симуляции
+     * @throws IllegalArgumentException если раундов меньше одного
+     */
+    public SimulationResult run(long rounds, long seed) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Number of rounds must be positive: " + rounds);
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int worker = 0; worker < threads; worker++) {
+                long share = rounds / threads + (worker < rounds % threads ? 1 : 0);
+                Random random = new Random(seed + worker * 0x9E3779B97F4A7C15L);
+                futures.add(executor.submit(() -> playRounds(share, random)));
+            }
+            long[] counts = new long[Outcome.values().length];
+            for (Future<long[]> future : futures) {
+                long[] part = future.get();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += part[i];
+                }
+            }
+            return new SimulationResult(counts, System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Разыгрывает rounds раундов в одном потоке со своим башмаком.
+     */
+    private long[] playRounds(long rounds, Random random) {
+        long[] counts = new long[Outcome.values().length];
+        Deck deck = new Deck(countDecks, random);
+        PlayerLogic player = new PlayerLogic(deck);
+        DealerLogic dealer = new DealerLogic(deck);
+        for (long i = 0; i < rounds; i++) {
+            if (deck.getCardsCount() < RESHUFFLE_CARDS) {
+                deck.reset();
+            }
+            player.clearHand();
+            dealer.clearHand();
+            counts[playRound(player, dealer, playerStandsOn).ordinal()]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Разыгрывает один раунд без ввода-вывода.
+     *
+     * @param deck колода, из которой раздаются карты
+     * @param playerStandsOn число очков, на котором игрок перестаёт брать карты
+     * @return исход раунда
+     */
+    public static Outcome playRound(Deck deck, int playerStandsOn) {
+        return playRound(new PlayerLogic(deck), new DealerLogic(deck), playerStandsOn);
+    }
+
+    /**
+     * Разыгрывает один раунд участниками с пустыми руками и общей колодой.
+     */
+    static Outcome playRound(PlayerLogic player, DealerLogic dealer, int playerStandsOn) {
+        player.hit();
+        player.hit();
+        dealer.hit();
+        dealer.hit();
+
+        while (player.getScore() < playerStandsOn && player.getScore() < 21) {
+            player.hit();
+        }
+
+        // Как в интерактивной игре: 21 у игрока сразу заканчивает раунд его победой
+        if (player.getScore() == 21) {
+            return Outcome.PLAYER_WIN;
+        }
+        if (player.getScore() > 21) {
+            return Outcome.DEALER_WIN;
+        }
+
+        while (dealer.shouldHit()) {
+            dealer.hit();
+        }
+        int playerScore = player.getScore();
+        int dealerScore = dealer.getScore();
+        if (dealerScore > 21 || playerScore > dealerScore) {
+            return Outcome.PLAYER_WIN;
+        } else if (dealerScore > playerScore) {
+            return Outcome.DEALER_WIN;
+        }
+        return Outcome.PUSH;
+    }
+}
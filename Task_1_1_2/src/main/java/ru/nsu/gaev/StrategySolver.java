@@ -0,0 +1,286 @@
+package ru.nsu.gaev;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Точный расчёт оптимальной стратегии «брать или стоять» с учётом состава башмака.
+ *
+ * <p>Правила те же, что в {@link GameLogic} и {@link Simulator}: 21 у игрока сразу
+ * даёт победу, перебор — поражение, иначе дилер добирает по
+ * {@link DealerLogic#shouldHit()} и суммы сравниваются; выигрыш и проигрыш равны
+ * ставке. Ожидаемый выигрыш при остановке берётся из точного распределения итогов
+ * дилера ({@link DealerProbabilities}) для текущего состава башмака, при доборе —
+ * усредняется по всем картам, оставшимся в башмаке, с их точным удалением.
+ * Значения запоминаются по ключу (жёсткая сумма игрока, есть ли туз, открытая карта,
+ * состав башмака), поэтому одна и та же рука, собранная разными путями, считается
+ * один раз.
+ *
+ * <p>Стартовые состояния — все пары первых карт игрока против каждой открытой карты —
+ * считаются параллельно на {@link ForkJoinPool}: по задаче на открытую карту. У каждой
+ * задачи своя таблица запоминания (значения для разных открытых карт не пересекаются),
+ * поэтому потоки не разделяют изменяемого состояния, а таблица живёт только до конца
+ * задачи. Общий кэш {@link DealerProbabilities} потокобезопасен и ограничен.
+ * Ячейка итоговой {@link StrategyTable} для суммы объединяет все стартовые пары
+ * с этой суммой, взвешенные по вероятности их раздачи.
+ */
+public class StrategySolver {
+    private static final int VALUES = 10;
+
+    private final DealerProbabilities dealer = new DealerProbabilities();
+    private final int countDecks;
+    private final ForkJoinPool pool;
+
+    /**
+     * Создаёт решатель на общем пуле.
+     *
+     * @param countDecks количество колод в башмаке
+     */
+    public StrategySolver(int countDecks) {
+        this(countDecks, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создаёт решатель на заданном пуле.
+     *
+     * @param countDecks количество колод в башмаке: от 1 до 15
+     * @param pool пул, на котором считаются стартовые состояния
+     * @throws IllegalArgumentException если количество колод вне диапазона
+     */
+    public StrategySolver(int countDecks, ForkJoinPool pool) {
+        if (countDecks < 1 || countDecks > 15) {
+            throw new IllegalArgumentException("Number of decks must be in [1, 15]: "
+                    + countDecks);
+        }
+        this.countDecks = countDecks;
+        this.pool = pool;
+    }
+
+    /**
+     * Строит таблицу стратегии для полного башмака.
+     *
+     * @return таблица решений для всех сумм из двух карт против всех открытых карт
+     */
+    public StrategyTable solve() {
+        int[] shoe = DealerProbabilities.fullShoe(countDecks);
+        List<ForkJoinTask<List<double[]>>> tasks = new ArrayList<>();
+        for (int upCard = 2; upCard <= 11; upCard++) {
+            int[] composition = shoe.clone();
+            composition[upCard - 2]--;
+            int up = upCard;
+            tasks.add(pool.submit(() -> solveUpCard(composition, up)));
+        }
+
+        // Взвешенные суммы выигрышей по ячейкам: [сумма][мягкость][открытая карта]
+        double[][][] stand = new double[StrategyTable.MAX_TOTAL + 1][2][VALUES];
+        double[][][] hit = new double[StrategyTable.MAX_TOTAL + 1][2][VALUES];
+        double[][][] weight = new double[StrategyTable.MAX_TOTAL + 1][2][VALUES];
+        try {
+            for (ForkJoinTask<List<double[]>> task : tasks) {
+                for (double[] values : task.get()) {
+                    int total = (int) values[0];
+                    int soft = (int) values[1];
+                    int up = (int) values[2] - 2;
+                    stand[total][soft][up] += values[3] * values[5];
+                    hit[total][soft][up] += values[4] * values[5];
+                    weight[total][soft][up] += values[5];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Solving interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Solving failed", e.getCause());
+        }
+
+        StrategyTable table = new StrategyTable();
+        for (int total = 0; total <= StrategyTable.MAX_TOTAL; total++) {
+            for (int soft = 0; soft < 2; soft++) {
+                for (int up = 0; up < VALUES; up++) {
+                    double w = weight[total][soft][up];
+                    if (w > 0) {
+                        table.set(total, soft == 1, up + 2, stand[total][soft][up] / w,
+                                hit[total][soft][up] / w);
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Считает все стартовые пары против одной открытой карты с общей таблицей
+     * запоминания этой задачи.
+     */
+    private List<double[]> solveUpCard(int[] composition, int upCard) {
+        Map<Long, double[]> memo = new HashMap<>();
+        List<double[]> result = new ArrayList<>();
+        for (int first = 2; first <= 11; first++) {
+            for (int second = first; second <= 11; second++) {
+                double[] values = startValues(composition.clone(), upCard, first, second, memo);
+                if (values != null) {
+                    result.add(values);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Считает выигрыши стартовой пары карт first и second против открытой карты.
+     *
+     * @return {сумма, мягкость, открытая карта, выигрыш при остановке, выигрыш при доборе,
+     *         вероятность раздачи} или null, если пару нельзя раздать или это сразу 21
+     */
+    private double[] startValues(int[] composition, int upCard, int first, int second,
+                                 Map<Long, double[]> memo) {
+        int firstCount = composition[first - 2];
+        int secondCount = composition[second - 2] - (first == second ? 1 : 0);
+        int remaining = total(composition);
+        double probability = (double) firstCount * secondCount / remaining / (remaining - 1)
+                * (first == second ? 1 : 2);
+        if (probability <= 0) {
+            return null;
+        }
+        composition[first - 2]--;
+        composition[second - 2]--;
+        int hard = cardHard(first) + cardHard(second);
+        boolean ace = first == 11 || second == 11;
+        int score = score(hard, ace);
+        if (score == 21) {
+            return null;
+        }
+        boolean soft = score != hard;
+        return new double[]{score, soft ? 1 : 0, upCard,
+            standValue(composition, score, upCard),
+            hit(composition, total(composition), hard, ace, upCard, memo), probability};
+    }
+
+    /**
+     * Возвращает ожидаемый выигрыш, если остановиться на сумме score.
+     *
+     * @param composition состав башмака без карт игрока и открытой карты дилера
+     * @param score сумма очков игрока
+     * @param upCard значение открытой карты дилера: от 2 до 11 (туз)
+     * @return ожидаемый выигрыш в ставках
+     */
+    public double standValue(int[] composition, int score, int upCard) {
+        if (score > 21) {
+            return -1;
+        }
+        if (score == 21) {
+            return 1;
+        }
+        double[] totals = dealer.finalTotals(composition, upCard);
+        double value = totals[DealerProbabilities.BUST];
+        // Итоги ниже 17 возможны, только если башмак закончился
+        for (int total = 0; total <= 21; total++) {
+            if (score > total) {
+                value += totals[total];
+            } else if (score < total) {
+                value -= totals[total];
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Возвращает ожидаемый выигрыш, если взять карту и дальше играть оптимально.
+     *
+     * @param composition состав башмака без карт игрока и открытой карты дилера
+     *                    (не изменяется)
+     * @param hard жёсткая сумма игрока (тузы по 1)
+     * @param ace есть ли в руке туз
+     * @param upCard значение открытой карты дилера: от 2 до 11 (туз)
+     * @return ожидаемый выигрыш в ставках
+     */
+    public double hitValue(int[] composition, int hard, boolean ace, int upCard) {
+        return hit(composition.clone(), total(composition), hard, ace, upCard,
+                new HashMap<>());
+    }
+
+    private double hit(int[] counts, int remaining, int hard, boolean ace, int upCard,
+                       Map<Long, double[]> memo) {
+        if (remaining == 0) {
+            return standValue(counts, score(hard, ace), upCard);
+        }
+        double value = 0;
+        for (int i = 0; i < VALUES; i++) {
+            int count = counts[i];
+            if (count == 0) {
+                continue;
+            }
+            int card = i + 2;
+            int nextHard = hard + cardHard(card);
+            boolean nextAce = ace || card == 11;
+            int score = score(nextHard, nextAce);
+            double next;
+            if (score >= 21) {
+                next = score == 21 ? 1 : -1;
+            } else {
+                counts[i]--;
+                next = best(counts, remaining - 1, nextHard, nextAce, upCard, memo);
+                counts[i]++;
+            }
+            value += next * count / remaining;
+        }
+        return value;
+    }
+
+    /**
+     * Наибольший ожидаемый выигрыш руки с суммой меньше 21 из двух действий.
+     * Таблица memo принадлежит одной задаче: состав → значения по (жёсткая сумма, туз).
+     */
+    private double best(int[] counts, int remaining, int hard, boolean ace, int upCard,
+                        Map<Long, double[]> memo) {
+        long key = pack(counts);
+        double[] row = memo.get(key);
+        if (row == null) {
+            row = new double[2 * 21];
+            Arrays.fill(row, Double.NaN);
+            memo.put(key, row);
+        }
+        int cell = 2 * hard + (ace ? 1 : 0);
+        double value = row[cell];
+        if (Double.isNaN(value)) {
+            value = Math.max(standValue(counts, score(hard, ace), upCard),
+                    hit(counts, remaining, hard, ace, upCard, memo));
+            row[cell] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Упаковывает состав в ключ таблицы запоминания: по 6 бит на каждое значение,
+     * кроме десяток, и 8 бит на десятки (отсюда ограничение в 15 колод).
+     */
+    private static long pack(int[] composition) {
+        long key = 0;
+        for (int i = 0; i < VALUES; i++) {
+            key = key << (i == 10 - 2 ? 8 : 6) | composition[i];
+        }
+        return key;
+    }
+
+    private static int cardHard(int card) {
+        return card == 11 ? 1 : card;
+    }
+
+    private static int score(int hard, boolean ace) {
+        return ace && hard + 10 <= 21 ? hard + 10 : hard;
+    }
+
+    private static int total(int[] composition) {
+        int remaining = 0;
+        for (int count : composition) {
+            remaining += count;
+        }
+        return remaining;
+    }
+}
@@ -0,0 +1,151 @@
+package ru.nsu.gaev;
+
+/**
+ * Таблица базовой стратегии: брать карту или остановиться при данной сумме игрока
+ * и открытой карте дилера.
+ *
+ * <p>Ячейки хранятся в плоских массивах, индекс вычисляется по сумме, мягкости руки
+ * и открытой карте, поэтому {@link #shouldHit(int, boolean, int)} работает за O(1)
+ * и не выделяет памяти. Для каждой ячейки помимо решения хранятся ожидаемые
+ * выигрыши обоих действий (в ставках). Таблица строится {@link StrategySolver}.
+ */
+public class StrategyTable {
+    /**
+     * Наименьшая жёсткая сумма в таблице (2 + 2).
+     */
+    public static final int MIN_HARD = 4;
+
+    /**
+     * Наименьшая мягкая сумма в таблице (туз + туз).
+     */
+    public static final int MIN_SOFT = 12;
+
+    /**
+     * Наибольшая сумма в таблице: при 21 игрок уже выиграл.
+     */
+    public static final int MAX_TOTAL = 20;
+
+    private static final int UP_CARDS = 10;
+    private static final int CELLS = 2 * (MAX_TOTAL + 1) * UP_CARDS;
+
+    private final boolean[] known = new boolean[CELLS];
+    private final boolean[] hit = new boolean[CELLS];
+    private final double[] standValues = new double[CELLS];
+    private final double[] hitValues = new double[CELLS];
+
+    StrategyTable() {
+    }
+
+    /**
+     * Записывает ожидаемые выигрыши ячейки; решение — действие с большим выигрышем.
+     */
+    void set(int total, boolean soft, int upCard, double standValue, double hitValue) {
+        int cell = index(total, soft, upCard);
+        known[cell] = true;
+        hit[cell] = hitValue > standValue;
+        standValues[cell] = standValue;
+        hitValues[cell] = hitValue;
+    }
+
+    /**
+     * Решает, брать ли карту.
+     *
+     * @param total сумма очков игрока (мягкая рука считается с тузом за 11)
+     * @param soft true, если в руке есть туз, посчитанный за 11
+     * @param upCard значение открытой карты дилера: от 2 до 11 (туз)
+     * @return true, если карту нужно брать; при сумме вне таблицы — правило дилера
+     *         (брать до 17)
+     */
+    public boolean shouldHit(int total, boolean soft, int upCard) {
+        if (total < 0 || total > MAX_TOTAL || upCard < 2 || upCard > 11) {
+            return total < 17;
+        }
+        int cell = index(total, soft, upCard);
+        return known[cell] ? hit[cell] : total < 17;
+    }
+
+    /**
+     * Проверяет, посчитана ли ячейка таблицы.
+     *
+     * @param total сумма очков игрока
+     * @param soft true для мягкой руки
+     * @param upCard значение открытой карты дилера
+     * @return true, если для ячейки есть решение
+     */
+    public boolean contains(int total, boolean soft, int upCard) {
+        return total >= 0 && total <= MAX_TOTAL && upCard >= 2 && upCard <= 11
+                && known[index(total, soft, upCard)];
+    }
+
+    /**
+     * Возвращает ожидаемый выигрыш, если остановиться.
+     *
+     * @param total сумма очков игрока
+     * @param soft true для мягкой руки
+     * @param upCard значение открытой карты дилера
+     * @return ожидаемый выигрыш в ставках
+     * @throws IllegalArgumentException если ячейка не посчитана
+     */
+    public double getStandValue(int total, boolean soft, int upCard) {
+        return standValues[checkedIndex(total, soft, upCard)];
+    }
+
+    /**
+     * Возвращает ожидаемый выигрыш, если взять карту и дальше играть оптимально.
+     *
+     * @param total сумма очков игрока
+     * @param soft true для мягкой руки
+     * @param upCard значение открытой карты дилера
+     * @return ожидаемый выигрыш в ставках
+     * @throws IllegalArgumentException если ячейка не посчитана
+     */
+    public double getHitValue(int total, boolean soft, int upCard) {
+        return hitValues[checkedIndex(total, soft, upCard)];
+    }
+
+    /**
+     * Выгружает таблицу в текстовом виде: строки H4..H20 и S12..S20, столбцы —
+     * открытые карты 2..10 и A, в ячейках H (брать) или S (стоять).
+     *
+     * @return таблица стратегии, по строке на сумму
+     */
+    public String export() {
+        StringBuilder builder = new StringBuilder("   ");
+        for (int upCard = 2; upCard <= 11; upCard++) {
+            builder.append(String.format("%3s", upCard == 11 ? "A" : String.valueOf(upCard)));
+        }
+        builder.append('\n');
+        appendRows(builder, false, MIN_HARD);
+        appendRows(builder, true, MIN_SOFT);
+        return builder.toString();
+    }
+
+    private void appendRows(StringBuilder builder, boolean soft, int from) {
+        for (int total = from; total <= MAX_TOTAL; total++) {
+            builder.append(String.format("%-3s", (soft ? "S" : "H") + total));
+            for (int upCard = 2; upCard <= 11; upCard++) {
+                char action = !contains(total, soft, upCard) ? '-'
+                        : shouldHit(total, soft, upCard) ? 'H' : 'S';
+                builder.append("  ").append(action);
+            }
+            builder.append('\n');
+        }
+    }
+
+    @Override
+    public String toString() {
+        return export();
+    }
+
+    private int checkedIndex(int total, boolean soft, int upCard) {
+        if (!contains(total, soft, upCard)) {
+            throw new IllegalArgumentException("No strategy for total " + total
+                    + (soft ? " (soft)" : "") + " against " + upCard);
+        }
+        return index(total, soft, upCard);
+    }
+
+    private static int index(int total, boolean soft, int upCard) {
+        return ((soft ? MAX_TOTAL + 1 : 0) + total) * UP_CARDS + upCard - 2;
+    }
+}
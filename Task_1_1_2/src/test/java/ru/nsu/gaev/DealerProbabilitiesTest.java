@@ -0,0 +1,151 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для класса DealerProbabilities (точные вероятности итогов дилера).
+ */
+class DealerProbabilitiesTest {
+
+    /**
+     * Проверяет вероятности на маленьких составах, посчитанных вручную.
+     */
+    @Test
+    void smallCompositionsTest() {
+        DealerProbabilities dealer = new DealerProbabilities();
+        int[] tensAndSeven = new int[10];
+        tensAndSeven[10 - 2] = 1;
+        tensAndSeven[7 - 2] = 1;
+        // Открыта 10: закрытая карта 10 (итог 20) или 7 (итог 17) поровну
+        double[] expected = new double[DealerProbabilities.RESULT_SIZE];
+        expected[17] = 0.5;
+        expected[20] = 0.5;
+        assertArrayEquals(expected, dealer.finalTotals(tensAndSeven, 10), 1e-12);
+
+        int[] sixThenTen = new int[10];
+        sixThenTen[6 - 2] = 1;
+        sixThenTen[10 - 2] = 1;
+        // Открыта 6: 6+6=12 и 10 даёт 22, либо 6+10=16 и 6 даёт 22 — всегда перебор
+        assertEquals(1.0, dealer.finalTotals(sixThenTen, 6)[DealerProbabilities.BUST], 1e-12);
+    }
+
+    /**
+     * Проверяет почти пустой башмак: дилер не добрал до 17, карты кончились,
+     * и он стоит на текущей сумме, а вероятности по-прежнему дают в сумме 1.
+     */
+    @Test
+    void exhaustedShoeTest() {
+        DealerProbabilities dealer = new DealerProbabilities();
+        int[] twoAndThree = new int[10];
+        twoAndThree[2 - 2] = 1;
+        twoAndThree[3 - 2] = 1;
+        // Открыта 10: в любом порядке 10 + 2 + 3 = 15, после чего башмак пуст
+        double[] totals = dealer.finalTotals(twoAndThree, 10);
+        assertEquals(1.0, totals[15], 1e-12);
+        assertEquals(1.0, Arrays.stream(totals).sum(), 1e-12);
+
+        int[] fourAndAce = new int[10];
+        fourAndAce[4 - 2] = 1;
+        fourAndAce[11 - 2] = 1;
+        // Открыта 5: 5 + A = мягкие 16, затем 4 даёт мягкие 20; 5 + 4 = 9, затем туз — 20
+        assertEquals(1.0, dealer.finalTotals(fourAndAce, 5)[20], 1e-12);
+        assertEquals(1.0, Arrays.stream(dealer.finalTotals(new int[10], 11)).sum(), 1e-12);
+        assertEquals(1.0, dealer.finalTotals(new int[10], 11)[11], 1e-12);
+    }
+
+    /**
+     * Проверяет, что вероятности полного башмака в сумме дают 1, а перебор при
+     * открытой шестёрке близок к известному значению около 42%.
+     */
+    @Test
+    void fullShoeTest() {
+        DealerProbabilities dealer = new DealerProbabilities();
+        for (int upCard = 2; upCard <= 11; upCard++) {
+            double sum = 0;
+            for (double probability : dealer.finalTotals(6, upCard)) {
+                sum += probability;
+            }
+            assertEquals(1.0, sum, 1e-9);
+        }
+        double bust = dealer.finalTotals(6, 6)[DealerProbabilities.BUST];
+        assertTrue(bust > 0.41 && bust < 0.43, () -> "bust = " + bust);
+        // Ниже 17 в полном башмаке дилер не останавливается
+        for (int total = 0; total < 17; total++) {
+            assertEquals(0, dealer.finalTotals(6, 10)[total]);
+        }
+        // Открытая карта вынута из башмака, поэтому составов десять
+        assertEquals(10, dealer.getCacheSize());
+    }
+
+    /**
+     * Сравнивает точный результат с симуляцией правила дилера на том же составе:
+     * одна колода без туза пик, открытый туз пик.
+     */
+    @Test
+    void matchesSimulationTest() {
+        double[] exact = new DealerProbabilities().finalTotals(1, 11);
+
+        List<String> cards = new ArrayList<>();
+        Deck full = new Deck(1);
+        while (full.getCardsCount() > 0) {
+            cards.add(full.drawCard());
+        }
+        cards.remove("AS");
+
+        double[] simulated = new double[DealerProbabilities.RESULT_SIZE];
+        Random random = new Random(5);
+        int rounds = 100_000;
+        for (int i = 0; i < rounds; i++) {
+            Collections.shuffle(cards, random);
+            DealerLogic dealer = new DealerLogic(new MockDeck(cards));
+            dealer.addCard("AS");
+            while (dealer.shouldHit()) {
+                dealer.hit();
+            }
+            simulated[Math.min(dealer.getScore(), DealerProbabilities.BUST)]++;
+        }
+        for (int i = 0; i < simulated.length; i++) {
+            assertEquals(exact[i], simulated[i] / rounds, 0.01);
+        }
+    }
+
+    /**
+     * Проверяет кэш по составу и некорректные аргументы.
+     */
+    @Test
+    void cacheAndValidationTest() {
+        DealerProbabilities dealer = new DealerProbabilities();
+        int[] shoe = DealerProbabilities.fullShoe(2);
+        dealer.finalTotals(shoe, 5);
+        dealer.finalTotals(shoe, 9);
+        assertEquals(1, dealer.getCacheSize());
+        dealer.clearCache();
+        assertEquals(0, dealer.getCacheSize());
+
+        // При переполнении кэш очищается, результаты не меняются
+        DealerProbabilities small = new DealerProbabilities(2);
+        double[] expected = small.finalTotals(1, 5);
+        small.finalTotals(1, 6);
+        small.finalTotals(1, 7);
+        assertTrue(small.getCacheSize() <= 2);
+        assertArrayEquals(expected, small.finalTotals(1, 5), 0);
+        assertThrows(IllegalArgumentException.class, () -> new DealerProbabilities(0));
+
+        // Больше 15 колод: ключ кэша — сам состав, ограничения нет
+        double sum = Arrays.stream(dealer.finalTotals(32, 6)).sum();
+        assertEquals(1.0, sum, 1e-9);
+        assertArrayEquals(new Deck(2).getRemainingByValue(), shoe);
+        assertThrows(IllegalArgumentException.class, () -> dealer.finalTotals(shoe, 1));
+        assertThrows(IllegalArgumentException.class, () -> dealer.finalTotals(new int[3], 5));
+    }
+}
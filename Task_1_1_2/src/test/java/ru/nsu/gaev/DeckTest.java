@@ -3,8 +3,11 @@ package ru.nsu.gaev;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Тесты для класса Deck (колода карт для игры Blackjack).
@@ -70,4 +73,88 @@ class DeckTest {
         int valueJkq = Deck.calculateHandValue(java.util.List.of("JH", "KC", "QS"));
         assertEquals(30, valueJkq);
     }
+
+    /**
+     * Проверяет, что колоды с одинаковым зерном тасуются одинаково.
+     */
+    @Test
+    void seededShuffleTest() {
+        Deck first = new Deck(2, new java.util.Random(7));
+        Deck second = new Deck(2, new java.util.Random(7));
+        assertEquals(104, first.getCardsCount());
+        for (int i = 0; i < 104; i++) {
+            assertEquals(first.drawCard(), second.drawCard());
+        }
+    }
+
+    /**
+     * Проверяет, что в каждой колоде башмака каждая карта встречается один раз,
+     * а таблицы значений и имён согласованы со строковым представлением.
+     */
+    @Test
+    void drawCodeTest() {
+        Deck deck = new Deck(2, new java.util.Random(3));
+        int[] seen = new int[52];
+        for (int i = 0; i < 104; i++) {
+            byte code = deck.drawCode();
+            seen[code]++;
+            String name = Deck.getCardName(code);
+            assertEquals(Deck.getCardValue(name), Deck.getCardValue(code));
+        }
+        for (int count : seen) {
+            assertEquals(2, count);
+        }
+        assertEquals(0, deck.getCardsCount());
+        assertThrows(IllegalStateException.class, deck::drawCard);
+        assertEquals(10, Deck.getCardValue("10D"));
+        assertEquals(9, Deck.getCardValue("9C"));
+    }
+
+    /**
+     * Проверяет, что счётчики по значениям следят за взятием карт и сбросом.
+     */
+    @Test
+    void remainingByValueTest() {
+        Deck deck = new Deck(2, new java.util.Random(9));
+        int[] expected = DealerProbabilities.fullShoe(2);
+        int[] counts = new int[10];
+        for (int i = 0; i < 60; i++) {
+            expected[Deck.getCardValue(deck.drawCode()) - 2]--;
+            assertArrayEquals(expected, deck.getRemainingByValue(counts));
+        }
+        int[] copy = deck.getRemainingByValue();
+        copy[0] = -1;
+        assertEquals(expected[0], deck.getRemainingOfValue(2));
+        assertEquals(expected[9], deck.getRemainingOfValue(11));
+        deck.reset();
+        assertArrayEquals(DealerProbabilities.fullShoe(2), deck.getRemainingByValue());
+        assertThrows(IllegalArgumentException.class, () -> deck.getRemainingOfValue(1));
+    }
+
+    /**
+     * Проверяет пустую колоду и отрицательное количество колод.
+     */
+    @Test
+    void countDecksTest() {
+        assertEquals(0, new Deck(0).getCardsCount());
+        assertThrows(IllegalArgumentException.class, () -> new Deck(-1));
+    }
+
+    /**
+     * Проверяет, что сброс возвращает все карты и не создаёт новых строк.
+     */
+    @Test
+    void resetTest() {
+        Deck deck = new Deck(1, new java.util.Random(4));
+        String first = deck.drawCard();
+        deck.drawCard();
+        deck.reset();
+        assertEquals(52, deck.getCardsCount());
+        while (deck.getCardsCount() > 0) {
+            String card = deck.drawCard();
+            if (card.equals(first)) {
+                assertSame(first, card);
+            }
+        }
+    }
 }
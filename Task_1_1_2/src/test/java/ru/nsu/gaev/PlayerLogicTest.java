@@ -2,6 +2,7 @@ package ru.nsu.gaev;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static ru.nsu.gaev.GameLogic.scanner;
@@ -153,6 +154,41 @@ class PlayerLogicTest {
         assertTrue(output.contains("Player cards: [4D, 4S, 4H, 2D]"));
     }
 
+    /**
+     * Проверяет взятие карты из своей колоды и сброс руки.
+     */
+    @Test
+    void hitAndClearHandTest() {
+        PlayerLogic testPlayer = new PlayerLogic(new MockDeck(Arrays.asList("KH", "5D")));
+        assertEquals("KH", testPlayer.hit());
+        testPlayer.hit();
+        assertEquals(15, testPlayer.getScore());
+        testPlayer.clearHand();
+        assertEquals(0, testPlayer.getHandSize());
+    }
+
+    /**
+     * Проверяет инкрементальный подсчёт очков и признак мягкой руки.
+     */
+    @Test
+    void softAndHardScoreTest() {
+        PlayerLogic testPlayer = new PlayerLogic(new MockDeck(Arrays.asList()));
+        testPlayer.addCard("AH");
+        testPlayer.addCard("6D");
+        assertEquals(17, testPlayer.getScore());
+        assertEquals(7, testPlayer.getHardTotal());
+        assertTrue(testPlayer.isSoft());
+
+        testPlayer.addCard("9S");
+        assertEquals(16, testPlayer.getScore());
+        assertFalse(testPlayer.isSoft());
+
+        testPlayer.addCard("AC");
+        testPlayer.addCard("10C");
+        assertEquals(27, testPlayer.getScore());
+        assertEquals(Deck.calculateHandValue(testPlayer.getHand()), testPlayer.getScore());
+    }
+
     /**
      * Восстанавливает стандартные потоки ввода/вывода после каждого теста.
      */
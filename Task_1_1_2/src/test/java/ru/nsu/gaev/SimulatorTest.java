@@ -0,0 +1,82 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для классов Simulator и SimulationResult (симуляция Монте-Карло).
+ */
+class SimulatorTest {
+
+    /**
+     * Проверяет исходы отдельных раундов на заранее заданных картах.
+     * Порядок раздачи: две карты игроку, две дилеру, затем добор игрока и дилера.
+     */
+    @Test
+    void playRoundTest() {
+        // Игрок 10+9 стоит, дилер 10+7 стоит
+        assertEquals(Outcome.PLAYER_WIN,
+                Simulator.playRound(new MockDeck(List.of("10H", "9S", "KH", "7C")), 17));
+        // Игрок 10+6 берёт K и перебирает
+        assertEquals(Outcome.DEALER_WIN,
+                Simulator.playRound(new MockDeck(List.of("10H", "6S", "KH", "7C", "KS")), 17));
+        // Игрок 10+7 и дилер 10+7
+        assertEquals(Outcome.PUSH,
+                Simulator.playRound(new MockDeck(List.of("10H", "7S", "KH", "7C")), 17));
+        // Игрок 10+5 берёт 6 и набирает 21
+        assertEquals(Outcome.PLAYER_WIN,
+                Simulator.playRound(new MockDeck(List.of("10H", "5S", "KH", "QC", "6D")), 17));
+        // Дилер 10+6 берёт 5 и набирает 21 против 18 игрока
+        assertEquals(Outcome.DEALER_WIN,
+                Simulator.playRound(new MockDeck(List.of("10H", "8S", "KH", "6C", "5D")), 17));
+    }
+
+    /**
+     * Проверяет, что результат воспроизводим по зерну и доли согласованы.
+     */
+    @Test
+    void runTest() {
+        Simulator simulator = new Simulator(6, 17, 3);
+        SimulationResult first = simulator.run(30_001, 42);
+        SimulationResult second = simulator.run(30_001, 42);
+        assertEquals(30_001, first.getRounds());
+        double total = 0;
+        for (Outcome outcome : Outcome.values()) {
+            assertEquals(first.getCount(outcome), second.getCount(outcome));
+            assertTrue(first.getConfidenceHalfWidth(outcome) > 0);
+            total += first.getRate(outcome);
+        }
+        assertEquals(1.0, total, 1e-9);
+        assertTrue(first.getRoundsPerSecond() > 0);
+        assertTrue(first.getPlayerEdge() < 0, () -> "Дилер должен иметь преимущество");
+    }
+
+    /**
+     * Проверяет пустой результат и некорректные параметры симулятора.
+     */
+    @Test
+    void edgeCasesTest() {
+        SimulationResult empty = new SimulationResult(new long[3], 0);
+        assertEquals(0, empty.getRate(Outcome.PUSH));
+        assertEquals(0, empty.getConfidenceHalfWidth(Outcome.PUSH));
+        assertEquals(0, empty.getRoundsPerSecond());
+        assertThrows(IllegalArgumentException.class, () -> new Simulator(0));
+        assertThrows(IllegalArgumentException.class, () -> new Simulator(1, 17, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Simulator(1, 17, -2));
+        assertThrows(IllegalArgumentException.class, () -> new Simulator(1, 22, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Simulator(1, 3, 1));
+        assertEquals(10, new Simulator(1, Simulator.MIN_PLAYER_STANDS_ON, 1).run(10, 2)
+                .getRounds());
+        assertEquals(10, new Simulator(1, Simulator.MAX_PLAYER_STANDS_ON, 1).run(10, 2)
+                .getRounds());
+        Simulator simulator = new Simulator(1, 17, 2);
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(-5, 1));
+        // Раундов меньше, чем потоков: лишние потоки ничего не играют
+        assertEquals(1, simulator.run(1, 1).getRounds());
+    }
+}
@@ -0,0 +1,116 @@
+package ru.nsu.gaev;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для классов StrategySolver и StrategyTable (оптимальная стратегия).
+ */
+class StrategySolverTest {
+
+    /**
+     * Проверяет ожидаемые выигрыши на маленьких составах, посчитанных вручную.
+     */
+    @Test
+    void smallCompositionsTest() {
+        StrategySolver solver = new StrategySolver(1);
+        int[] tenAndSeven = new int[10];
+        tenAndSeven[10 - 2] = 1;
+        tenAndSeven[7 - 2] = 1;
+        // Открыта 10: у дилера 20 или 17 поровну, 18 игрока выигрывает и проигрывает поровну
+        assertEquals(0.0, solver.standValue(tenAndSeven, 18, 10), 1e-12);
+        assertEquals(-1.0, solver.standValue(tenAndSeven, 16, 10), 1e-12);
+        assertEquals(1.0, solver.standValue(tenAndSeven, 21, 10), 1e-12);
+
+        int[] onlyThree = new int[10];
+        onlyThree[3 - 2] = 1;
+        // Жёсткие 18 плюс тройка дают 21, жёсткие 19 — перебор
+        assertEquals(1.0, solver.hitValue(onlyThree, 18, false, 10), 1e-12);
+        assertEquals(-1.0, solver.hitValue(onlyThree, 19, false, 10), 1e-12);
+        // Мягкие 19 (туз + 8) с тройкой становятся жёсткими 12
+        assertTrue(solver.hitValue(onlyThree, 9, true, 10) > -1);
+    }
+
+    /**
+     * Проверяет, что решённая таблица согласуется с известной базовой стратегией.
+     */
+    @Test
+    void solveTest() {
+        StrategySolver solver = new StrategySolver(1);
+        StrategyTable table = solver.solve();
+        for (int upCard = 2; upCard <= 11; upCard++) {
+            for (int total = StrategyTable.MIN_HARD; total <= 11; total++) {
+                assertTrue(table.shouldHit(total, false, upCard), "H" + total + " vs " + upCard);
+            }
+            for (int total = 17; total <= StrategyTable.MAX_TOTAL; total++) {
+                assertFalse(table.shouldHit(total, false, upCard), "H" + total + " vs " + upCard);
+            }
+            assertTrue(table.shouldHit(StrategyTable.MIN_SOFT, true, upCard));
+            assertFalse(table.shouldHit(19, true, upCard));
+            assertFalse(table.shouldHit(20, true, upCard));
+        }
+        assertTrue(table.shouldHit(16, false, 10));
+        assertFalse(table.shouldHit(16, false, 6));
+        assertTrue(table.getHitValue(16, false, 10) > table.getStandValue(16, false, 10));
+        assertTrue(table.getStandValue(20, false, 6) > 0);
+
+        String[] rows = table.export().split("\n");
+        assertEquals(1 + (20 - 4 + 1) + (20 - 12 + 1), rows.length);
+        assertTrue(rows[0].trim().startsWith("2"));
+        assertTrue(rows[0].endsWith("A"));
+        assertTrue(rows[1].startsWith("H4"));
+
+        // В одном потоке получается та же таблица с теми же значениями
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            StrategyTable sequential = new StrategySolver(1, single).solve();
+            assertEquals(table.export(), sequential.export());
+            for (int total = StrategyTable.MIN_HARD; total <= StrategyTable.MAX_TOTAL; total++) {
+                assertEquals(table.getHitValue(total, false, 10),
+                        sequential.getHitValue(total, false, 10), 0);
+            }
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    /**
+     * Проверяет ход бота по таблице: берёт по таблице и останавливается.
+     */
+    @Test
+    void botTurnTest() {
+        StrategyTable table = new StrategyTable();
+        table.set(12, false, 7, -0.5, -0.4);
+        table.set(15, false, 7, -0.5, -0.6);
+
+        PlayerLogic player = new PlayerLogic(new MockDeck(List.of("10H", "2S", "3C", "KD")));
+        player.hit();
+        player.hit();
+        player.botTurn(table, 7);
+        // 12 против 7 — брать, 15 против 7 — стоять
+        assertEquals(15, player.getScore());
+        assertEquals(3, player.hand.size());
+    }
+
+    /**
+     * Проверяет ячейки вне таблицы и некорректные параметры.
+     */
+    @Test
+    void invalidTest() {
+        StrategyTable table = new StrategyTable();
+        assertFalse(table.contains(12, false, 7));
+        // Без решения действует правило дилера
+        assertTrue(table.shouldHit(16, false, 7));
+        assertFalse(table.shouldHit(17, false, 7));
+        assertFalse(table.shouldHit(25, false, 7));
+        assertThrows(IllegalArgumentException.class, () -> table.getStandValue(12, false, 7));
+        assertThrows(IllegalArgumentException.class, () -> new StrategySolver(0));
+        assertThrows(IllegalArgumentException.class, () -> new StrategySolver(16));
+    }
+}